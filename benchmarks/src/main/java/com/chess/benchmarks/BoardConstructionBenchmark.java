@@ -0,0 +1,43 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardConstructionBenchmark {
+
+    @Param({"MIDDLEGAME", "ENDGAME"})
+    private PositionCorpus.Phase phase;
+
+    private List<Board.Builder> builders;
+
+    @Setup
+    public void setUp() {
+        this.builders = new ArrayList<>();
+        for (final Board board : this.phase.createBoards()) {
+            this.builders.add(new Board.Builder(board));
+        }
+    }
+
+    @Benchmark
+    public Board createStandardBoard() {
+        return Board.createStandardBoard();
+    }
+
+    @Benchmark
+    public void builderBuild(final Blackhole blackhole) {
+        for (final Board.Builder builder : this.builders) {
+            blackhole.consume(builder.build());
+        }
+    }
+}
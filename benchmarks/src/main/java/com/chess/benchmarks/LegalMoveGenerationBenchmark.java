@@ -0,0 +1,52 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LegalMoveGenerationBenchmark {
+
+    @Param({"MIDDLEGAME", "ENDGAME"})
+    private PositionCorpus.Phase phase;
+
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    private Piece.PieceType pieceType;
+
+    private List<Board> boards;
+    private List<Piece> pieces;
+
+    @Setup
+    public void setUp() {
+        this.boards = new ArrayList<>();
+        this.pieces = new ArrayList<>();
+        for (final Board board : this.phase.createBoards()) {
+            for (final Piece piece : board.currentPlayer().getActivePieces()) {
+                if (piece.getPieceType() == this.pieceType) {
+                    this.boards.add(board);
+                    this.pieces.add(piece);
+                }
+            }
+        }
+        if (this.pieces.isEmpty()) {
+            throw new RuntimeException("No " + this.pieceType + " to move in the " + this.phase + " positions");
+        }
+    }
+
+    @Benchmark
+    public void calculateLegalMoves(final Blackhole blackhole) {
+        for (int i = 0; i < this.pieces.size(); i++) {
+            blackhole.consume(this.pieces.get(i).calculateLegalMoves(this.boards.get(i)));
+        }
+    }
+}
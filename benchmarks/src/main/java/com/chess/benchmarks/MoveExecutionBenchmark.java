@@ -0,0 +1,64 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveExecutionBenchmark {
+
+    @Param({"MIDDLEGAME", "ENDGAME"})
+    private PositionCorpus.Phase phase;
+
+    private List<Board> boards;
+    private List<Move> moves;
+
+    @Setup
+    public void setUp() {
+        this.boards = this.phase.createBoards();
+        this.moves = new ArrayList<>();
+        for (final Board board : this.boards) {
+            this.moves.addAll(board.currentPlayer().getLegalMoves());
+        }
+    }
+
+    @Benchmark
+    public void execute(final Blackhole blackhole) {
+        for (final Move move : this.moves) {
+            blackhole.consume(move.execute());
+        }
+    }
+
+    @Benchmark
+    public void makeMove(final Blackhole blackhole) {
+        for (final Move move : this.moves) {
+            blackhole.consume(move.getBoard().currentPlayer().makeMove(move));
+        }
+    }
+
+    // check and mate status is memoized per board, so each call starts from a fresh copy;
+    // copyBoard is the baseline to subtract
+    @Benchmark
+    public void isInCheckMate(final Blackhole blackhole) {
+        for (final Board board : this.boards) {
+            blackhole.consume(new Board.Builder(board).build().currentPlayer().isInCheckMate());
+        }
+    }
+
+    @Benchmark
+    public void copyBoard(final Blackhole blackhole) {
+        for (final Board board : this.boards) {
+            blackhole.consume(new Board.Builder(board).build());
+        }
+    }
+}
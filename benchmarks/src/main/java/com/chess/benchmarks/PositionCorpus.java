@@ -0,0 +1,49 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+public final class PositionCorpus {
+
+    public enum Phase {
+        MIDDLEGAME(ImmutableList.of(
+                "r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w KQkq - 4 4",
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r2q1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N1PN2/PP2BPPP/R2QK2R w KQ - 0 9",
+                "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+                "rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3")),
+        ENDGAME(ImmutableList.of(
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                "8/8/4k3/3p4/3P4/4K3/8/8 w - - 0 1",
+                "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1",
+                "8/5pk1/6p1/8/3B4/6P1/5PK1/8 b - - 0 1",
+                "4k3/8/8/8/8/8/4P3/4K2R w K - 0 1",
+                "6k1/5Q2/6K1/8/8/8/8/8 b - - 0 1",
+                "8/8/4k3/8/2N5/5n2/4K3/8 w - - 0 1",
+                "8/5k2/8/3b4/8/2B5/4K3/8 w - - 0 1",
+                "8/3k4/8/2n5/5B2/8/3K4/8 w - - 0 1",
+                "3q4/7k/8/8/8/8/1Q4K1/8 w - - 0 1"));
+
+        private final List<String> fens;
+
+        Phase(final List<String> fens) {
+            this.fens = fens;
+        }
+
+        public List<Board> createBoards() {
+            final ImmutableList.Builder<Board> boards = ImmutableList.builder();
+            for (final String fen : this.fens) {
+                boards.add(FenUtilities.createGameFromFEN(fen));
+            }
+            return boards.build();
+        }
+    }
+
+    private PositionCorpus() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+}
@@ -1,10 +1,32 @@
 package com.chess;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.IncrementalStateCheck;
+import com.chess.engine.board.MagicBitBoardsCheck;
+import com.chess.engine.perft.PerftRunner;
+import com.chess.engine.player.ai.SearchRunner;
 import com.chess.gui.Table;
 
+import java.util.Arrays;
+
 public class JChess {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("perft")) {
+            PerftRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("magics")) {
+            MagicBitBoardsCheck.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("incremental")) {
+            IncrementalStateCheck.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("search")) {
+            SearchRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Board board = Board.createStandardBoard();
         System.out.println(board);
         Table table = new Table();
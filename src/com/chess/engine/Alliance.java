@@ -36,6 +36,11 @@ public enum Alliance {
         public Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer) {
             return whitePlayer;
         }
+
+        @Override
+        public Alliance opposite() {
+            return BLACK;
+        }
     },
     BLACK {
         @Override
@@ -67,6 +72,11 @@ public enum Alliance {
         public Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer) {
             return blackPlayer;
         }
+
+        @Override
+        public Alliance opposite() {
+            return WHITE;
+        }
     };
 
     public abstract int getDirection();
@@ -75,6 +85,7 @@ public enum Alliance {
     public abstract boolean isWhite();
     public abstract boolean isPawnPromotionSquare(int position);
     public abstract Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer);
+    public abstract Alliance opposite();
 
 
 }
@@ -0,0 +1,13 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public interface BitBoardPosition {
+    long getPieceBitBoard(Alliance alliance, PieceType pieceType);
+    long getAllianceBitBoard(Alliance alliance);
+    long getOccupiedBitBoard();
+    int getCastlingRights();
+    int getEnPassantSquare();
+    long getAttackedSquares(Alliance alliance);
+}
@@ -0,0 +1,39 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public class BitBoards {
+    public static final long EMPTY = 0L;
+
+    public static final int NUM_PIECE_TYPES = PieceType.values().length;
+    public static final int NUM_ALLIANCES = Alliance.values().length;
+
+    private BitBoards() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static long squareMask(final int tileCoordinate) {
+        return 1L << tileCoordinate;
+    }
+
+    public static boolean isSet(final long bitBoard, final int tileCoordinate) {
+        return (bitBoard & (1L << tileCoordinate)) != 0;
+    }
+
+    public static int firstSquare(final long bitBoard) {
+        return Long.numberOfTrailingZeros(bitBoard);
+    }
+
+    public static long clearFirstSquare(final long bitBoard) {
+        return bitBoard & (bitBoard - 1);
+    }
+
+    public static int countSquares(final long bitBoard) {
+        return Long.bitCount(bitBoard);
+    }
+
+    public static int pieceIndex(final Alliance alliance, final PieceType pieceType) {
+        return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+}
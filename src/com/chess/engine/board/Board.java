@@ -2,16 +2,24 @@ package com.chess.engine.board;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.pieces.*;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.chess.engine.player.BlackPlayer;
 import com.chess.engine.player.Player;
 import com.chess.engine.player.WhitePlayer;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
 import java.util.*;
 
-public class Board {
-    private final List<Tile> gameBoard;
+public class Board implements BitBoardPosition {
+    private static final ThreadLocal<MoveList> MOVE_LIST_BUFFER = ThreadLocal.withInitial(MoveList::new);
+
+    private final Piece[] boardConfig;
+    private final long[] pieceBitBoards;
+    private final long[] allianceBitBoards;
+    private final long occupiedBitBoard;
     private final Collection<Piece> whitePieces;
     private final Collection<Piece> blackPieces;
     private final WhitePlayer whitePlayer;
@@ -19,24 +27,71 @@ public class Board {
     private final Player currentPlayer;
 
     private final Pawn enPassantPawn;
+    private final int castlingRights;
+    private final long zobristKey;
+    private final long pawnKey;
+    private final int pieceSquareScore;
+    private final int gamePhase;
+    private final Supplier<Long> whiteAttackedSquares;
+    private final Supplier<Long> blackAttackedSquares;
+
     private Board(Builder builder) {
-        this.gameBoard = createGameBoard(builder);
-        this.whitePieces = calculateActivePieces(this.gameBoard, Alliance.WHITE);
-        this.blackPieces = calculateActivePieces(this.gameBoard, Alliance.BLACK);
+        this.boardConfig = new Piece[BoardUtils.NUM_TILES];
+        this.pieceBitBoards = new long[BitBoards.NUM_ALLIANCES * BitBoards.NUM_PIECE_TYPES];
+        this.allianceBitBoards = new long[BitBoards.NUM_ALLIANCES];
+        for (final Piece piece : builder.boardConfig) {
+            if (piece == null) {
+                continue;
+            }
+            final int piecePosition = piece.getPiecePosition();
+            final long squareMask = BitBoards.squareMask(piecePosition);
+            this.boardConfig[piecePosition] = piece;
+            this.pieceBitBoards[BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType())] |= squareMask;
+            this.allianceBitBoards[piece.getPieceAlliance().ordinal()] |= squareMask;
+        }
+        this.occupiedBitBoard = this.allianceBitBoards[Alliance.WHITE.ordinal()]
+                | this.allianceBitBoards[Alliance.BLACK.ordinal()];
+        this.whitePieces = calculateActivePieces(Alliance.WHITE);
+        this.blackPieces = calculateActivePieces(Alliance.BLACK);
         this.enPassantPawn = builder.enPassantPawn;
-        final Collection<Move> whiteStandardLegalMoves = calculateLegalMoves(this.whitePieces);
-        final Collection<Move> blackStandardLegalMoves = calculateLegalMoves(this.blackPieces);
-
-        this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
+        this.castlingRights = CastlingRights.calculate(this);
+        this.zobristKey = builder.isZobristKeySet ? builder.zobristKey : Zobrist.calculateKey(this, builder.nextMove);
+        this.pawnKey = builder.isPawnKeySet ? builder.pawnKey : Zobrist.calculatePawnKey(this);
+        this.pieceSquareScore = builder.isEvaluationTermsSet ? builder.pieceSquareScore : PieceSquareTables.calculateScore(this);
+        this.gamePhase = builder.isEvaluationTermsSet ? builder.gamePhase : PieceSquareTables.calculatePhase(this);
+        this.whiteAttackedSquares = Suppliers.memoize(() -> MoveGenerator.attackedSquares(this, Alliance.WHITE));
+        this.blackAttackedSquares = Suppliers.memoize(() -> MoveGenerator.attackedSquares(this, Alliance.BLACK));
+        this.whitePlayer = new WhitePlayer(this, () -> calculateLegalMoves(Alliance.WHITE));
+        this.blackPlayer = new BlackPlayer(this, () -> calculateLegalMoves(Alliance.BLACK));
         this.currentPlayer = builder.nextMove.choosePlayer(this.whitePlayer, this.blackPlayer);
     }
 
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Board)) {
+            return false;
+        }
+        final Board otherBoard = (Board) other;
+        return this.zobristKey == otherBoard.zobristKey
+                && this.castlingRights == otherBoard.castlingRights
+                && this.currentPlayer.getAlliance() == otherBoard.currentPlayer.getAlliance()
+                && Arrays.equals(this.pieceBitBoards, otherBoard.pieceBitBoards)
+                && Objects.equals(this.enPassantPawn, otherBoard.enPassantPawn);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.zobristKey);
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
         for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-            final String tileText = this.gameBoard.get(i).toString();
+            final String tileText = getTile(i).toString();
             builder.append(String.format("%3s", tileText));
             if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
                 builder.append("\n");
@@ -45,78 +100,97 @@ public class Board {
         return builder.toString();
     }
 
-    private Collection<Move> calculateLegalMoves(Collection<Piece> pieces) {
-        final List<Move> legalMoves = new ArrayList<>();
-        for (Piece piece : pieces) {
-            legalMoves.addAll(piece.calculateLegalMoves(this));
+    private Collection<Move> calculateLegalMoves(final Alliance alliance) {
+        // generation never re-enters another board's move list, so one buffer per thread is enough
+        final MoveList moveList = MOVE_LIST_BUFFER.get();
+        moveList.clear();
+        MoveGenerator.generateLegalMoves(this, alliance, moveList);
+        final Move[] legalMoves = new Move[moveList.size()];
+        for (int i = 0; i < legalMoves.length; i++) {
+            legalMoves[i] = CompactMove.toMove(this, moveList.get(i));
         }
         return ImmutableList.copyOf(legalMoves);
     }
 
-    private static Collection<Piece> calculateActivePieces(List<Tile> gameBoard,
-                                                           Alliance alliance) {
-        final List<Piece> activePiece = new ArrayList<>();
-
-        for (final Tile tile : gameBoard) {
-            if (tile.isTileOccupied()) {
-                final Piece piece = tile.getPiece();
-                if (piece.getPieceAlliance() == alliance) {
-                    activePiece.add(piece);
-                }
-            }
+    private Collection<Piece> calculateActivePieces(final Alliance alliance) {
+        final Piece[] activePieces = new Piece[BitBoards.countSquares(this.allianceBitBoards[alliance.ordinal()])];
+        long remaining = this.allianceBitBoards[alliance.ordinal()];
+        for (int i = 0; remaining != BitBoards.EMPTY; i++) {
+            activePieces[i] = this.boardConfig[BitBoards.firstSquare(remaining)];
+            remaining = BitBoards.clearFirstSquare(remaining);
         }
+        return ImmutableList.copyOf(activePieces);
+    }
 
-        return ImmutableList.copyOf(activePiece);
+    public Tile getTile(final int tileCoordinate) {
+        return Tile.createTile(tileCoordinate, getPiece(tileCoordinate));
     }
 
-    public Tile getTile(int tileCoordinate) {
-        return gameBoard.get(tileCoordinate);
+    public Piece getPiece(final int tileCoordinate) {
+        return BitBoards.isSet(this.occupiedBitBoard, tileCoordinate) ? this.boardConfig[tileCoordinate] : null;
     }
-    private List<Tile> createGameBoard(Builder builder) {
-        final Tile[] tiles = new Tile[BoardUtils.NUM_TILES];
-        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-            tiles[i] = Tile.createTile(i, builder.boardConfig.get(i));
-        }
-        return ImmutableList.copyOf(tiles);
+
+    @Override
+    public long getPieceBitBoard(final Alliance alliance, final Piece.PieceType pieceType) {
+        return this.pieceBitBoards[BitBoards.pieceIndex(alliance, pieceType)];
+    }
+
+    @Override
+    public long getAllianceBitBoard(final Alliance alliance) {
+        return this.allianceBitBoards[alliance.ordinal()];
+    }
+
+    @Override
+    public long getOccupiedBitBoard() {
+        return this.occupiedBitBoard;
+    }
+
+    @Override
+    public long getAttackedSquares(final Alliance alliance) {
+        return alliance.isWhite() ? this.whiteAttackedSquares.get() : this.blackAttackedSquares.get();
+    }
+
+    public long attackersOf(final int tileCoordinate, final Alliance attacker) {
+        return MoveGenerator.attackersOf(this, tileCoordinate, attacker);
     }
 
     public static Board createStandardBoard() {
         final Builder builder = new Builder();
-        builder.setPiece(new Rook(0,Alliance.BLACK));
-        builder.setPiece(new Knight(1, Alliance.BLACK));
-        builder.setPiece(new Bishop(2, Alliance.BLACK));
-        builder.setPiece(new Queen(3, Alliance.BLACK));
-        builder.setPiece(new King(4, Alliance.BLACK));
-        builder.setPiece(new Bishop(5, Alliance.BLACK));
-        builder.setPiece(new Knight(6, Alliance.BLACK));
-        builder.setPiece(new Rook(7,Alliance.BLACK));
-
-        builder.setPiece(new Pawn(8, Alliance.BLACK));
-        builder.setPiece(new Pawn(9, Alliance.BLACK));
-        builder.setPiece(new Pawn(10, Alliance.BLACK));
-        builder.setPiece(new Pawn(11, Alliance.BLACK));
-        builder.setPiece(new Pawn(12, Alliance.BLACK));
-        builder.setPiece(new Pawn(13, Alliance.BLACK));
-        builder.setPiece(new Pawn(14, Alliance.BLACK));
-        builder.setPiece(new Pawn(15, Alliance.BLACK));
-
-        builder.setPiece(new Pawn(48, Alliance.WHITE));
-        builder.setPiece(new Pawn(49, Alliance.WHITE));
-        builder.setPiece(new Pawn(50, Alliance.WHITE));
-        builder.setPiece(new Pawn(51, Alliance.WHITE));
-        builder.setPiece(new Pawn(52, Alliance.WHITE));
-        builder.setPiece(new Pawn(53, Alliance.WHITE));
-        builder.setPiece(new Pawn(54, Alliance.WHITE));
-        builder.setPiece(new Pawn(55, Alliance.WHITE));
-
-        builder.setPiece(new Rook(56,Alliance.WHITE));
-        builder.setPiece(new Knight(57, Alliance.WHITE));
-        builder.setPiece(new Bishop(58, Alliance.WHITE));
-        builder.setPiece(new Queen(59, Alliance.WHITE));
-        builder.setPiece(new King(60, Alliance.WHITE));
-        builder.setPiece(new Bishop(61, Alliance.WHITE));
-        builder.setPiece(new Knight(62, Alliance.WHITE));
-        builder.setPiece(new Rook(63,Alliance.WHITE));
+        builder.setPiece(Piece.createPiece(PieceType.ROOK, Alliance.BLACK, 0, true));
+        builder.setPiece(Piece.createPiece(PieceType.KNIGHT, Alliance.BLACK, 1, true));
+        builder.setPiece(Piece.createPiece(PieceType.BISHOP, Alliance.BLACK, 2, true));
+        builder.setPiece(Piece.createPiece(PieceType.QUEEN, Alliance.BLACK, 3, true));
+        builder.setPiece(Piece.createPiece(PieceType.KING, Alliance.BLACK, 4, true));
+        builder.setPiece(Piece.createPiece(PieceType.BISHOP, Alliance.BLACK, 5, true));
+        builder.setPiece(Piece.createPiece(PieceType.KNIGHT, Alliance.BLACK, 6, true));
+        builder.setPiece(Piece.createPiece(PieceType.ROOK, Alliance.BLACK, 7, true));
+
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.BLACK, 8, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.BLACK, 9, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.BLACK, 10, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.BLACK, 11, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.BLACK, 12, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.BLACK, 13, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.BLACK, 14, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.BLACK, 15, true));
+
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.WHITE, 48, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.WHITE, 49, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.WHITE, 50, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.WHITE, 51, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.WHITE, 52, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.WHITE, 53, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.WHITE, 54, true));
+        builder.setPiece(Piece.createPiece(PieceType.PAWN, Alliance.WHITE, 55, true));
+
+        builder.setPiece(Piece.createPiece(PieceType.ROOK, Alliance.WHITE, 56, true));
+        builder.setPiece(Piece.createPiece(PieceType.KNIGHT, Alliance.WHITE, 57, true));
+        builder.setPiece(Piece.createPiece(PieceType.BISHOP, Alliance.WHITE, 58, true));
+        builder.setPiece(Piece.createPiece(PieceType.QUEEN, Alliance.WHITE, 59, true));
+        builder.setPiece(Piece.createPiece(PieceType.KING, Alliance.WHITE, 60, true));
+        builder.setPiece(Piece.createPiece(PieceType.BISHOP, Alliance.WHITE, 61, true));
+        builder.setPiece(Piece.createPiece(PieceType.KNIGHT, Alliance.WHITE, 62, true));
+        builder.setPiece(Piece.createPiece(PieceType.ROOK, Alliance.WHITE, 63, true));
 
         builder.setMoveMaker(Alliance.WHITE);
 
@@ -134,6 +208,45 @@ public class Board {
         return enPassantPawn;
     }
 
+    @Override
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    @Override
+    public int getEnPassantSquare() {
+        return this.enPassantPawn == null ? BoardUtils.NO_SQUARE
+                : this.enPassantPawn.getPiecePosition() - this.enPassantPawn.getPieceAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    public long zobristKey() {
+        return this.zobristKey;
+    }
+
+    public long pawnKey() {
+        return this.pawnKey;
+    }
+
+    // packed middlegame and endgame material plus piece-square values, see PieceSquareTables
+    public int getPieceSquareScore() {
+        return this.pieceSquareScore;
+    }
+
+    public int getGamePhase() {
+        return this.gamePhase;
+    }
+
+    // the same position with the other side to move, used by null-move pruning
+    public Board createNullMoveBoard() {
+        return new Builder(this)
+                .setEnPassantPawn(null)
+                .setMoveMaker(this.currentPlayer.getOpponent().getAlliance())
+                .setZobristKey(this.zobristKey ^ Zobrist.enPassantKey(this.enPassantPawn) ^ Zobrist.sideToMoveFlip())
+                .setPawnKey(this.pawnKey)
+                .setEvaluationTerms(this.pieceSquareScore, this.gamePhase)
+                .build();
+    }
+
     public Player whitePlayer() {
         return this.whitePlayer;
     }
@@ -149,17 +262,36 @@ public class Board {
     }
 
     public static class Builder {
-        Map<Integer, Piece> boardConfig;
+        final Piece[] boardConfig;
         Alliance nextMove;
         Pawn enPassantPawn;
+        long zobristKey;
+        boolean isZobristKeySet;
+        long pawnKey;
+        boolean isPawnKeySet;
+        int pieceSquareScore;
+        int gamePhase;
+        boolean isEvaluationTermsSet;
         public Builder() {
-            this.boardConfig = new HashMap<>();
+            this.boardConfig = new Piece[BoardUtils.NUM_TILES];
+        }
+
+        public Builder(final Board board) {
+            this.boardConfig = Arrays.copyOf(board.boardConfig, BoardUtils.NUM_TILES);
+            this.nextMove = board.currentPlayer().getAlliance();
+            this.enPassantPawn = board.enPassantPawn;
         }
 
         public Builder setPiece(final Piece piece) {
-            this.boardConfig.put(piece.getPiecePosition(), piece);
+            this.boardConfig[piece.getPiecePosition()] = piece;
             return this;
         }
+
+        public Builder removePiece(final int tileCoordinate) {
+            this.boardConfig[tileCoordinate] = null;
+            return this;
+        }
+
         public Builder setMoveMaker(final Alliance nextMove) {
             this.nextMove = nextMove;
             return this;
@@ -168,8 +300,42 @@ public class Board {
             return new Board(this);
         }
 
-        public void setEnPassantPawn(Pawn enPassantPawn) {
+        public Builder setEnPassantPawn(Pawn enPassantPawn) {
             this.enPassantPawn = enPassantPawn;
+            return this;
+        }
+
+        public Builder setZobristKey(final long zobristKey) {
+            this.zobristKey = zobristKey;
+            this.isZobristKeySet = true;
+            return this;
+        }
+
+        public Builder setPawnKey(final long pawnKey) {
+            this.pawnKey = pawnKey;
+            this.isPawnKeySet = true;
+            return this;
+        }
+
+        public Builder setEvaluationTerms(final int pieceSquareScore, final int gamePhase) {
+            this.pieceSquareScore = pieceSquareScore;
+            this.gamePhase = gamePhase;
+            this.isEvaluationTermsSet = true;
+            return this;
+        }
+
+        public Builder reset() {
+            Arrays.fill(this.boardConfig, null);
+            this.nextMove = null;
+            this.enPassantPawn = null;
+            this.zobristKey = 0L;
+            this.isZobristKeySet = false;
+            this.pawnKey = 0L;
+            this.isPawnKeySet = false;
+            this.pieceSquareScore = 0;
+            this.gamePhase = 0;
+            this.isEvaluationTermsSet = false;
+            return this;
         }
     }
 
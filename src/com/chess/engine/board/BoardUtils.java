@@ -26,6 +26,7 @@ public class BoardUtils {
 
     public static final int NUM_TILES = 64;
     public static final int NUM_TILES_PER_ROW = 8;
+    public static final int NO_SQUARE = -1;
 
 
 
@@ -0,0 +1,55 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+
+public class CastlingRights {
+    public static final int NONE = 0;
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+    public static final int ALL = WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE;
+
+    private static final int[] SQUARE_MASKS = initSquareMasks();
+
+    private CastlingRights() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static int afterMove(final int castlingRights, final int from, final int to) {
+        return castlingRights & SQUARE_MASKS[from] & SQUARE_MASKS[to];
+    }
+
+    public static boolean isHeldOnSquare(final int castlingRights, final int square) {
+        return (castlingRights & SQUARE_MASKS[square]) != castlingRights;
+    }
+
+    static int calculate(final Board board) {
+        return castlingRight(board, 60, 63, WHITE_KING_SIDE)
+                | castlingRight(board, 60, 56, WHITE_QUEEN_SIDE)
+                | castlingRight(board, 4, 7, BLACK_KING_SIDE)
+                | castlingRight(board, 4, 0, BLACK_QUEEN_SIDE);
+    }
+
+    private static int castlingRight(final Board board, final int kingSquare, final int rookSquare, final int castlingRight) {
+        final Piece king = board.getPiece(kingSquare);
+        final Piece rook = board.getPiece(rookSquare);
+        return king != null && king.getPieceType().isKing() && king.isFirstMove()
+                && rook != null && rook.getPieceType().isRook() && rook.isFirstMove()
+                && rook.getPieceAlliance() == king.getPieceAlliance() ? castlingRight : NONE;
+    }
+
+    private static int[] initSquareMasks() {
+        final int[] masks = new int[BoardUtils.NUM_TILES];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            masks[i] = ALL;
+        }
+        masks[60] = ALL & ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        masks[63] = ALL & ~WHITE_KING_SIDE;
+        masks[56] = ALL & ~WHITE_QUEEN_SIDE;
+        masks[4] = ALL & ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        masks[7] = ALL & ~BLACK_KING_SIDE;
+        masks[0] = ALL & ~BLACK_QUEEN_SIDE;
+        return masks;
+    }
+}
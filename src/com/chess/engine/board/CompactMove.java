@@ -0,0 +1,136 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.pieces.Rook;
+
+import static com.chess.engine.board.Move.*;
+
+public class CompactMove {
+    public static final int NULL_MOVE = 0;
+
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_SIDE_CASTLE = 2;
+    public static final int QUEEN_SIDE_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int TO_SHIFT = 6;
+    private static final int FLAG_SHIFT = 12;
+    private static final int PROMOTION_TYPE_MASK = 0x3;
+    private static final PieceType[] PROMOTION_TYPES = {PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN};
+
+    private CompactMove() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static int encode(final int from, final int to, final int flag) {
+        return from | (to << TO_SHIFT) | (flag << FLAG_SHIFT);
+    }
+
+    public static int encodePromotion(final int from, final int to, final PieceType promotionType, final boolean isCapture) {
+        return encode(from, to, promotionFlag(promotionType) | (isCapture ? CAPTURE : QUIET));
+    }
+
+    public static int getFrom(final int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getTo(final int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    public static int getFlag(final int move) {
+        return move >>> FLAG_SHIFT;
+    }
+
+    public static boolean isCapture(final int move) {
+        return (getFlag(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(final int move) {
+        return (getFlag(move) & PROMOTION) != 0;
+    }
+
+    public static boolean isCastle(final int move) {
+        final int flag = getFlag(move);
+        return flag == KING_SIDE_CASTLE || flag == QUEEN_SIDE_CASTLE;
+    }
+
+    public static PieceType getPromotionType(final int move) {
+        return PROMOTION_TYPES[getFlag(move) & PROMOTION_TYPE_MASK];
+    }
+
+    private static int promotionFlag(final PieceType promotionType) {
+        switch (promotionType) {
+            case KNIGHT:
+                return PROMOTION;
+            case BISHOP:
+                return PROMOTION | 1;
+            case ROOK:
+                return PROMOTION | 2;
+            case QUEEN:
+                return PROMOTION | 3;
+            default:
+                throw new RuntimeException("Cannot promote to " + promotionType);
+        }
+    }
+
+    public static int fromMove(final Move move) {
+        if (move == Move.NULL_MOVE) {
+            return NULL_MOVE;
+        }
+        final int from = move.getCurrentCoordinate();
+        final int to = move.getDestinationCoordinate();
+        if (move instanceof PawnPromotion) {
+            return encodePromotion(from, to, ((PawnPromotion) move).getPromotionType(), move.isAttack());
+        } else if (move.isCastlingMove()) {
+            return encode(from, to, to > from ? KING_SIDE_CASTLE : QUEEN_SIDE_CASTLE);
+        } else if (move instanceof PawnEnPassantAttackMove) {
+            return encode(from, to, EN_PASSANT);
+        } else if (move instanceof PawnJump) {
+            return encode(from, to, DOUBLE_PAWN_PUSH);
+        }
+        return encode(from, to, move.isAttack() ? CAPTURE : QUIET);
+    }
+
+    public static Move toMove(final Board board, final int move) {
+        if (move == NULL_MOVE) {
+            return Move.NULL_MOVE;
+        }
+        final int from = getFrom(move);
+        final int to = getTo(move);
+        final Piece movedPiece = board.getPiece(from);
+        final boolean isPawn = movedPiece.getPieceType() == PieceType.PAWN;
+        switch (getFlag(move)) {
+            case QUIET:
+                return isPawn ? new PawnMove(board, movedPiece, to) : new MajorMove(board, movedPiece, to);
+            case DOUBLE_PAWN_PUSH:
+                return new PawnJump(board, movedPiece, to);
+            case KING_SIDE_CASTLE:
+                return new KingSideCastleMove(board, movedPiece, to, (Rook) board.getPiece(to + 1), to + 1, to - 1);
+            case QUEEN_SIDE_CASTLE:
+                return new QueenSideCastleMove(board, movedPiece, to, (Rook) board.getPiece(to - 2), to - 2, to + 1);
+            case CAPTURE:
+                return isPawn ? new PawnAttackMove(board, movedPiece, to, board.getPiece(to))
+                        : new MajorAttackMove(board, movedPiece, to, board.getPiece(to));
+            case EN_PASSANT:
+                return new PawnEnPassantAttackMove(board, movedPiece, to, board.getEnPassantPawn());
+            default:
+                final Move pawnMove = isCapture(move) ? new PawnAttackMove(board, movedPiece, to, board.getPiece(to))
+                        : new PawnMove(board, movedPiece, to);
+                return new PawnPromotion(pawnMove, getPromotionType(move));
+        }
+    }
+
+    public static String toString(final int move) {
+        if (move == NULL_MOVE) {
+            return "0000";
+        }
+        final String text = BoardUtils.getPositionAtCoordinate(getFrom(move)) + BoardUtils.getPositionAtCoordinate(getTo(move));
+        return isPromotion(move) ? text + getPromotionType(move).toString().toLowerCase() : text;
+    }
+}
@@ -0,0 +1,98 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public class FenUtilities {
+
+    private FenUtilities() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static Board createGameFromFEN(final String fenString) {
+        final String[] fenPartitions = fenString.trim().split("\\s+");
+        if (fenPartitions.length < 4) {
+            throw new RuntimeException("Invalid FEN " + fenString);
+        }
+        final String castlingRights = fenPartitions[2];
+        final Board.Builder builder = new Board.Builder();
+        int tileCoordinate = 0;
+        for (final char fenCharacter : fenPartitions[0].toCharArray()) {
+            if (fenCharacter == '/') {
+                continue;
+            }
+            if (Character.isDigit(fenCharacter)) {
+                tileCoordinate += fenCharacter - '0';
+                continue;
+            }
+            if (tileCoordinate >= BoardUtils.NUM_TILES) {
+                throw new RuntimeException("Invalid FEN " + fenString);
+            }
+            final Alliance alliance = Character.isUpperCase(fenCharacter) ? Alliance.WHITE : Alliance.BLACK;
+            final PieceType pieceType = pieceTypeFor(Character.toLowerCase(fenCharacter), fenString);
+            builder.setPiece(Piece.createPiece(pieceType, alliance, tileCoordinate,
+                    isFirstMove(pieceType, alliance, tileCoordinate, castlingRights)));
+            tileCoordinate++;
+        }
+        if (tileCoordinate != BoardUtils.NUM_TILES) {
+            throw new RuntimeException("Invalid FEN " + fenString);
+        }
+        final Alliance moveMaker = moveMaker(fenPartitions[1], fenString);
+        builder.setMoveMaker(moveMaker);
+        if (!fenPartitions[3].equals("-")) {
+            final int enPassantPawnCoordinate = BoardUtils.getCoordinateAtPosition(fenPartitions[3])
+                    - moveMaker.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+            builder.setEnPassantPawn((Pawn) Piece.createPiece(PieceType.PAWN, moveMaker.opposite(), enPassantPawnCoordinate, false));
+        }
+        return builder.build();
+    }
+
+    private static PieceType pieceTypeFor(final char fenCharacter, final String fenString) {
+        switch (fenCharacter) {
+            case 'p':
+                return PieceType.PAWN;
+            case 'n':
+                return PieceType.KNIGHT;
+            case 'b':
+                return PieceType.BISHOP;
+            case 'r':
+                return PieceType.ROOK;
+            case 'q':
+                return PieceType.QUEEN;
+            case 'k':
+                return PieceType.KING;
+            default:
+                throw new RuntimeException("Invalid FEN " + fenString);
+        }
+    }
+
+    private static boolean isFirstMove(final PieceType pieceType,
+                                       final Alliance alliance,
+                                       final int tileCoordinate,
+                                       final String castlingRights) {
+        final boolean isWhite = alliance.isWhite();
+        switch (pieceType) {
+            case PAWN:
+                return isWhite ? BoardUtils.SECOND_RANK[tileCoordinate] : BoardUtils.SEVENTH_RANK[tileCoordinate];
+            case KING:
+                return isWhite ? tileCoordinate == 60 && (castlingRights.contains("K") || castlingRights.contains("Q"))
+                        : tileCoordinate == 4 && (castlingRights.contains("k") || castlingRights.contains("q"));
+            case ROOK:
+                return isWhite ? (tileCoordinate == 63 && castlingRights.contains("K")) || (tileCoordinate == 56 && castlingRights.contains("Q"))
+                        : (tileCoordinate == 7 && castlingRights.contains("k")) || (tileCoordinate == 0 && castlingRights.contains("q"));
+            default:
+                return false;
+        }
+    }
+
+    private static Alliance moveMaker(final String moveMakerString, final String fenString) {
+        if (moveMakerString.equals("w")) {
+            return Alliance.WHITE;
+        } else if (moveMakerString.equals("b")) {
+            return Alliance.BLACK;
+        }
+        throw new RuntimeException("Invalid FEN " + fenString);
+    }
+}
@@ -0,0 +1,99 @@
+package com.chess.engine.board;
+
+import com.chess.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// compares the incrementally maintained Zobrist key, pawn key, piece-square score and phase of Board and
+// SearchBoard with the values recomputed from scratch, and MoveGenerator.givesCheck with the check status
+// after every legal move, along random games from a few varied positions
+public final class IncrementalStateCheck {
+    private static final String[] START_POSITIONS = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"
+    };
+    private static final int DEFAULT_GAMES = 200;
+    private static final int MAX_GAME_LENGTH = 200;
+    private static final long SEED = 20240601L;
+
+    private static int mismatches;
+
+    private IncrementalStateCheck() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static void main(final String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        final Random random = new Random(SEED);
+        long positions = 0;
+        for (int game = 0; game < games; game++) {
+            final Board start = FenUtilities.createGameFromFEN(START_POSITIONS[game % START_POSITIONS.length]);
+            final SearchBoard searchBoard = new SearchBoard(start);
+            Board board = start;
+            for (int ply = 0; ply < MAX_GAME_LENGTH; ply++) {
+                final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+                if (moves.isEmpty()) {
+                    break;
+                }
+                checkGivesCheck(board, moves);
+                final Move move = moves.get(random.nextInt(moves.size()));
+                final MoveTransition transition = board.currentPlayer().makeMove(move);
+                if (!transition.getMoveStatus().isDone()) {
+                    continue;
+                }
+                searchBoard.makeMove(move);
+                board = transition.getTransitionBoard();
+                checkBoard("board", move, board);
+                checkSearchBoard(move, searchBoard, board);
+                checkBoard("search board copy", move, searchBoard.toBoard());
+                positions++;
+            }
+            while (searchBoard.getPly() > 0) {
+                searchBoard.unmakeMove();
+            }
+            checkSearchBoard(null, searchBoard, start);
+        }
+        System.out.printf("Checked %d positions in %d games%n", positions, games);
+        System.out.println(mismatches == 0 ? "OK" : mismatches + " MISMATCHES");
+    }
+
+    private static void checkGivesCheck(final Board board, final List<Move> moves) {
+        for (final Move move : moves) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                compare("gives check", move, MoveGenerator.givesCheck(board, CompactMove.fromMove(move)) ? 1 : 0,
+                        transition.getTransitionBoard().currentPlayer().isInCheck() ? 1 : 0);
+            }
+        }
+    }
+
+    private static void checkBoard(final String source, final Move move, final Board board) {
+        compare(source + " zobrist key", move, board.zobristKey(),
+                Zobrist.calculateKey(board, board.currentPlayer().getAlliance()));
+        compare(source + " pawn key", move, board.pawnKey(), Zobrist.calculatePawnKey(board));
+        compare(source + " piece-square score", move, board.getPieceSquareScore(), PieceSquareTables.calculateScore(board));
+        compare(source + " phase", move, board.getGamePhase(), PieceSquareTables.calculatePhase(board));
+    }
+
+    private static void checkSearchBoard(final Move move, final SearchBoard searchBoard, final Board board) {
+        compare("search board zobrist key", move, searchBoard.zobristKey(),
+                Zobrist.calculateKey(board, board.currentPlayer().getAlliance()));
+        compare("search board pawn key", move, searchBoard.pawnKey(), Zobrist.calculatePawnKey(board));
+        compare("search board piece-square score", move, searchBoard.getPieceSquareScore(),
+                PieceSquareTables.calculateScore(board));
+        compare("search board phase", move, searchBoard.getGamePhase(), PieceSquareTables.calculatePhase(board));
+    }
+
+    private static void compare(final String term, final Move move, final long actual, final long expected) {
+        if (actual != expected) {
+            mismatches++;
+            System.out.printf("MISMATCH %s after %s: incremental %x, recomputed %x%n",
+                    term, move == null ? "unmaking the game" : move, actual, expected);
+        }
+    }
+}
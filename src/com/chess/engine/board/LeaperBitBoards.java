@@ -0,0 +1,60 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+
+public class LeaperBitBoards {
+    private static final int[][] KNIGHT_OFFSETS = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+    private static final int[][] KING_OFFSETS = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+
+    private static final long[] KNIGHT_ATTACKS = initAttacks(KNIGHT_OFFSETS);
+    private static final long[] KING_ATTACKS = initAttacks(KING_OFFSETS);
+    private static final long[][] PAWN_ATTACKS = initPawnAttacks();
+
+    private LeaperBitBoards() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static long knightAttacks(final int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    public static long kingAttacks(final int square) {
+        return KING_ATTACKS[square];
+    }
+
+    public static long pawnAttacks(final Alliance alliance, final int square) {
+        return PAWN_ATTACKS[alliance.ordinal()][square];
+    }
+
+    private static long[] initAttacks(final int[][] offsets) {
+        final long[] attacks = new long[BoardUtils.NUM_TILES];
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            attacks[square] = calculateAttacks(square, offsets);
+        }
+        return attacks;
+    }
+
+    private static long[][] initPawnAttacks() {
+        final long[][] attacks = new long[BitBoards.NUM_ALLIANCES][];
+        for (final Alliance alliance : Alliance.values()) {
+            final int direction = alliance.getDirection();
+            attacks[alliance.ordinal()] = initAttacks(new int[][]{{direction, -1}, {direction, 1}});
+        }
+        return attacks;
+    }
+
+    private static long calculateAttacks(final int square, final int[][] offsets) {
+        final int row = square / BoardUtils.NUM_TILES_PER_ROW;
+        final int column = square % BoardUtils.NUM_TILES_PER_ROW;
+        long attacks = BitBoards.EMPTY;
+        for (final int[] offset : offsets) {
+            final int candidateRow = row + offset[0];
+            final int candidateColumn = column + offset[1];
+            if (candidateRow >= 0 && candidateRow < BoardUtils.NUM_TILES_PER_ROW
+                    && candidateColumn >= 0 && candidateColumn < BoardUtils.NUM_TILES_PER_ROW) {
+                attacks |= BitBoards.squareMask(candidateRow * BoardUtils.NUM_TILES_PER_ROW + candidateColumn);
+            }
+        }
+        return attacks;
+    }
+}
@@ -0,0 +1,82 @@
+package com.chess.engine.board;
+
+// compares the magic attack tables with the ray walk the pieces used before bitboards
+public final class MagicBitBoardsCheck {
+    private static final int[] ROOK_OFFSETS = {-8, -1, 1, 8};
+    private static final int[] BISHOP_OFFSETS = {-9, -7, 7, 9};
+
+    private MagicBitBoardsCheck() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static void main(final String[] args) {
+        long checked = 0;
+        int mismatches = 0;
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            for (final boolean rook : new boolean[]{true, false}) {
+                final int[] offsets = rook ? ROOK_OFFSETS : BISHOP_OFFSETS;
+                final long mask = relevantBlockers(square, offsets);
+                long blockers = BitBoards.EMPTY;
+                do {
+                    // the squares outside the mask never change the attacks, so try them both empty and full
+                    for (final long occupied : new long[]{blockers, blockers | ~mask}) {
+                        final long expected = rayWalk(square, occupied, offsets);
+                        final long actual = rook ? MagicBitBoards.rookAttacks(square, occupied)
+                                : MagicBitBoards.bishopAttacks(square, occupied);
+                        checked++;
+                        if (actual != expected) {
+                            mismatches++;
+                            System.out.printf("MISMATCH %s on %s with blockers %016x: magic %016x, ray walk %016x%n",
+                                    rook ? "rook" : "bishop", BoardUtils.getPositionAtCoordinate(square),
+                                    occupied, actual, expected);
+                        }
+                    }
+                    blockers = (blockers - mask) & mask;
+                } while (blockers != BitBoards.EMPTY);
+            }
+        }
+        System.out.printf("Checked %d occupancies%n", checked);
+        System.out.println(mismatches == 0 ? "OK" : mismatches + " MISMATCHES");
+    }
+
+    private static long rayWalk(final int square, final long occupied, final int[] offsets) {
+        long attacks = BitBoards.EMPTY;
+        for (final int offset : offsets) {
+            int candidate = square;
+            while (!isColumnExclusion(candidate, offset)) {
+                candidate += offset;
+                if (!BoardUtils.isValidTileCoordinate(candidate)) {
+                    break;
+                }
+                attacks |= BitBoards.squareMask(candidate);
+                if (BitBoards.isSet(occupied, candidate)) {
+                    break;
+                }
+            }
+        }
+        return attacks;
+    }
+
+    // every ray square except the last one, whose occupancy cannot block anything beyond it
+    private static long relevantBlockers(final int square, final int[] offsets) {
+        long blockers = BitBoards.EMPTY;
+        for (final int offset : offsets) {
+            int candidate = square;
+            while (!isColumnExclusion(candidate, offset)) {
+                candidate += offset;
+                if (!BoardUtils.isValidTileCoordinate(candidate)
+                        || isColumnExclusion(candidate, offset)
+                        || !BoardUtils.isValidTileCoordinate(candidate + offset)) {
+                    break;
+                }
+                blockers |= BitBoards.squareMask(candidate);
+            }
+        }
+        return blockers;
+    }
+
+    private static boolean isColumnExclusion(final int position, final int offset) {
+        return (BoardUtils.FIRST_COLUMN[position] && (offset == -1 || offset == -9 || offset == 7))
+                || (BoardUtils.EIGHTH_COLUMN[position] && (offset == 1 || offset == -7 || offset == 9));
+    }
+}
@@ -67,22 +67,46 @@ public abstract class Move {
     }
 
     public Board execute() {
-        final Builder builder = new Builder();
-        for (Piece piece : this.board.currentPlayer().getActivePieces()) {
-            if (!this.movedPiece.equals(piece)) {
-                builder.setPiece(piece);
-            }
-        }
-        for (Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()) {
-            builder.setPiece(piece);
-        }
+        final Builder builder = createTransitionBuilder();
         //move the moved piece
-        builder.setPiece(this.movedPiece.movePiece(this));
-        builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+        final Piece movedPiece = this.movedPiece.movePiece(this);
+        builder.setPiece(movedPiece);
+        builder.setZobristKey(calculateZobristKey(Zobrist.pieceKey(this.movedPiece) ^ Zobrist.pieceKey(movedPiece)
+                ^ (isAttack() ? Zobrist.pieceKey(getAttackedPiece()) : 0L), null));
+        builder.setPawnKey(calculatePawnKey(movedPiece, getAttackedPiece()));
+        setEvaluationTerms(builder, movedPiece, getAttackedPiece());
 
         return builder.build();
     }
 
+    Builder createTransitionBuilder() {
+        return new Builder(this.board)
+                .removePiece(getCurrentCoordinate())
+                .setEnPassantPawn(null)
+                .setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+    }
+
+    long calculateZobristKey(final long pieceKeys, final Pawn nextEnPassantPawn) {
+        final int castlingRights = this.board.getCastlingRights();
+        return this.board.zobristKey() ^ pieceKeys ^ Zobrist.sideToMoveFlip()
+                ^ Zobrist.castlingKey(castlingRights)
+                ^ Zobrist.castlingKey(CastlingRights.afterMove(castlingRights, getCurrentCoordinate(), this.destinationCoordinate))
+                ^ Zobrist.enPassantKey(this.board.getEnPassantPawn())
+                ^ Zobrist.enPassantKey(nextEnPassantPawn);
+    }
+
+    long calculatePawnKey(final Piece placedPiece, final Piece capturedPiece) {
+        return this.board.pawnKey() ^ Zobrist.pawnKey(this.movedPiece)
+                ^ Zobrist.pawnKey(placedPiece) ^ Zobrist.pawnKey(capturedPiece);
+    }
+
+    void setEvaluationTerms(final Builder builder, final Piece placedPiece, final Piece capturedPiece) {
+        builder.setEvaluationTerms(this.board.getPieceSquareScore() - PieceSquareTables.score(this.movedPiece)
+                        + PieceSquareTables.score(placedPiece) - PieceSquareTables.score(capturedPiece),
+                this.board.getGamePhase() - PieceSquareTables.phase(this.movedPiece)
+                        + PieceSquareTables.phase(placedPiece) - PieceSquareTables.phase(capturedPiece));
+    }
+
     public static class MajorAttackMove extends AttackMove {
         public MajorAttackMove(Board board, Piece movedPiece, int destinationCoordinate, Piece attackedPiece) {
             super(board, movedPiece, destinationCoordinate, attackedPiece);
@@ -190,56 +214,56 @@ public abstract class Move {
 
         @Override
         public Board execute() {
-            final Builder builder = new Builder();
-            for (Piece piece : this.board.currentPlayer().getActivePieces()) {
-                if (!this.movedPiece.equals(piece)) {
-                    builder.setPiece(piece);
-                }
-            }
-            for (Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()) {
-                if (!piece.equals(getAttackedPiece())) {
-                    builder.setPiece(piece);
-                }
-            }
-            builder.setPiece(this.movedPiece.movePiece(this));
-            builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            final Builder builder = createTransitionBuilder().removePiece(getAttackedPiece().getPiecePosition());
+            final Piece movedPiece = this.movedPiece.movePiece(this);
+            builder.setPiece(movedPiece);
+            builder.setZobristKey(calculateZobristKey(Zobrist.pieceKey(this.movedPiece) ^ Zobrist.pieceKey(movedPiece)
+                    ^ Zobrist.pieceKey(getAttackedPiece()), null));
+            builder.setPawnKey(calculatePawnKey(movedPiece, getAttackedPiece()));
+            setEvaluationTerms(builder, movedPiece, getAttackedPiece());
             return builder.build();
         }
     }
     public static class PawnPromotion extends Move {
         final Move decoratedMove;
         final Pawn promotedPawn;
-        
+        final Piece.PieceType promotionType;
+
         public PawnPromotion(Move decoratedMove) {
-            super(decoratedMove.getBoard(),decoratedMove.getDestinationCoordinate());
+            this(decoratedMove, Piece.PieceType.QUEEN);
+        }
+
+        public PawnPromotion(Move decoratedMove, Piece.PieceType promotionType) {
+            super(decoratedMove.getBoard(), decoratedMove.getMovedPiece(), decoratedMove.getDestinationCoordinate());
             this.decoratedMove = decoratedMove;
             this.promotedPawn = (Pawn) decoratedMove.getMovedPiece();
+            this.promotionType = promotionType;
+        }
+
+        public Piece.PieceType getPromotionType() {
+            return this.promotionType;
         }
 
         @Override
         public boolean equals(Object object) {
-            return this == object || object instanceof PawnPromotion && super.equals(object);
+            return this == object || object instanceof PawnPromotion && super.equals(object)
+                    && this.promotionType == ((PawnPromotion) object).promotionType;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(decoratedMove, promotedPawn);
+            return Objects.hash(decoratedMove, promotedPawn, promotionType);
         }
 
         @Override
         public Board execute() {
-            final Board pawnMovedBoard = this.decoratedMove.execute();
-            final Board.Builder builder = new Builder();
-            for (final Piece piece : pawnMovedBoard.currentPlayer().getActivePieces()) {
-                if (!this.promotedPawn.equals(piece)) {
-                    builder.setPiece(piece);
-                }
-            }
-            for (final Piece piece : pawnMovedBoard.currentPlayer().getOpponent().getActivePieces()) {
-                builder.setPiece(piece);
-            }
-            builder.setPiece(this.promotedPawn.getPromotionPiece().movePiece(this));
-            builder.setMoveMaker(pawnMovedBoard.currentPlayer().getAlliance());
+            final Board.Builder builder = createTransitionBuilder();
+            final Piece promotionPiece = this.promotedPawn.getPromotionPiece(this.promotionType).movePiece(this);
+            builder.setPiece(promotionPiece);
+            builder.setZobristKey(calculateZobristKey(Zobrist.pieceKey(this.promotedPawn) ^ Zobrist.pieceKey(promotionPiece)
+                    ^ (isAttack() ? Zobrist.pieceKey(getAttackedPiece()) : 0L), null));
+            builder.setPawnKey(calculatePawnKey(promotionPiece, getAttackedPiece()));
+            setEvaluationTerms(builder, promotionPiece, getAttackedPiece());
             return builder.build();
         }
 
@@ -266,19 +290,13 @@ public abstract class Move {
 
         @Override
         public Board execute() {
-            final Builder builder = new Builder();
-            for (final Piece piece : this.board.currentPlayer().getActivePieces()) {
-                if (!this.movedPiece.equals(piece)) {
-                    builder.setPiece(piece);
-                }
-            }
-            for (final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()) {
-                builder.setPiece(piece);
-            }
+            final Builder builder = createTransitionBuilder();
             final Pawn movedPawn = (Pawn) this.movedPiece.movePiece(this);
             builder.setPiece(movedPawn);
             builder.setEnPassantPawn(movedPawn);
-            builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setZobristKey(calculateZobristKey(Zobrist.pieceKey(this.movedPiece) ^ Zobrist.pieceKey(movedPawn), movedPawn));
+            builder.setPawnKey(calculatePawnKey(movedPawn, null));
+            setEvaluationTerms(builder, movedPawn, null);
             return builder.build();
         }
 
@@ -310,18 +328,17 @@ public abstract class Move {
         }
         @Override
         public Board execute() {
-            final Builder builder = new Builder();
-            for (final Piece piece : this.board.currentPlayer().getActivePieces()) {
-                if (!this.movedPiece.equals(piece) && !this.castleRook.equals(piece)) {
-                    builder.setPiece(piece);
-                }
-            }
-            for (final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()) {
-                builder.setPiece(piece);
-            }
-            builder.setPiece(this.movedPiece.movePiece(this));
-            builder.setPiece(new Rook(this.castleRookDestination, this.castleRook.getPieceAlliance()));
-            builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            final Builder builder = createTransitionBuilder().removePiece(this.castleRookStart);
+            final Piece movedKing = this.movedPiece.movePiece(this);
+            final Piece movedRook = Piece.createPiece(Piece.PieceType.ROOK, this.castleRook.getPieceAlliance(), this.castleRookDestination, false);
+            builder.setPiece(movedKing);
+            builder.setPiece(movedRook);
+            builder.setZobristKey(calculateZobristKey(Zobrist.pieceKey(this.movedPiece) ^ Zobrist.pieceKey(movedKing)
+                    ^ Zobrist.pieceKey(this.castleRook) ^ Zobrist.pieceKey(movedRook), null));
+            builder.setEvaluationTerms(this.board.getPieceSquareScore() - PieceSquareTables.score(this.movedPiece)
+                    + PieceSquareTables.score(movedKing) - PieceSquareTables.score(this.castleRook)
+                    + PieceSquareTables.score(movedRook), this.board.getGamePhase());
+            builder.setPawnKey(this.board.pawnKey());
             return builder.build();
         }
 
@@ -392,13 +409,16 @@ public abstract class Move {
         }
 
         public static Move createMove(Board board, int currentCoordinate, int destinationCoordinate) {
-            for (Move move : board.getAllLegalMoves()) {
-                if (move.getCurrentCoordinate() == currentCoordinate 
-                        && move.getDestinationCoordinate() == destinationCoordinate) {
-                    return move;
-                }
-            }
-            return NULL_MOVE;
+            return createMove(board, currentCoordinate, destinationCoordinate, null);
+        }
+
+        public static Move createMove(final Board board,
+                                      final int currentCoordinate,
+                                      final int destinationCoordinate,
+                                      final Piece.PieceType promotionType) {
+            final Move move = board.currentPlayer().findLegalMove(currentCoordinate, destinationCoordinate, promotionType);
+            return move != NULL_MOVE ? move
+                    : board.currentPlayer().getOpponent().findLegalMove(currentCoordinate, destinationCoordinate, promotionType);
         }
     }
 
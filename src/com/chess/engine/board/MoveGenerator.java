@@ -0,0 +1,362 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public class MoveGenerator {
+    private static final PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT};
+
+    private static final long ALL_SQUARES = ~BitBoards.EMPTY;
+    private static final long[][] BETWEEN = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+    private static final long[][] LINE = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+
+    static {
+        for (int from = 0; from < BoardUtils.NUM_TILES; from++) {
+            for (int to = 0; to < BoardUtils.NUM_TILES; to++) {
+                if (from == to) {
+                    continue;
+                }
+                final long endPoints = BitBoards.squareMask(from) | BitBoards.squareMask(to);
+                if (BitBoards.isSet(MagicBitBoards.rookAttacks(from, BitBoards.EMPTY), to)) {
+                    BETWEEN[from][to] = MagicBitBoards.rookAttacks(from, BitBoards.squareMask(to))
+                            & MagicBitBoards.rookAttacks(to, BitBoards.squareMask(from));
+                    LINE[from][to] = (MagicBitBoards.rookAttacks(from, BitBoards.EMPTY)
+                            & MagicBitBoards.rookAttacks(to, BitBoards.EMPTY)) | endPoints;
+                } else if (BitBoards.isSet(MagicBitBoards.bishopAttacks(from, BitBoards.EMPTY), to)) {
+                    BETWEEN[from][to] = MagicBitBoards.bishopAttacks(from, BitBoards.squareMask(to))
+                            & MagicBitBoards.bishopAttacks(to, BitBoards.squareMask(from));
+                    LINE[from][to] = (MagicBitBoards.bishopAttacks(from, BitBoards.EMPTY)
+                            & MagicBitBoards.bishopAttacks(to, BitBoards.EMPTY)) | endPoints;
+                }
+            }
+        }
+    }
+
+    private MoveGenerator() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static void generatePseudoLegalMoves(final BitBoardPosition position,
+                                                final Alliance alliance,
+                                                final MoveList moves) {
+        generatePieceMoves(position, alliance, ALL_SQUARES, BitBoards.EMPTY, BoardUtils.NO_SQUARE, moves);
+        final long king = position.getPieceBitBoard(alliance, PieceType.KING);
+        if (king != BitBoards.EMPTY) {
+            final int from = BitBoards.firstSquare(king);
+            addMoves(from, LeaperBitBoards.kingAttacks(from) & ~position.getAllianceBitBoard(alliance),
+                    position.getAllianceBitBoard(alliance.opposite()), moves);
+            generateCastleMoves(position, alliance, moves);
+        }
+    }
+
+    public static void generateLegalMoves(final BitBoardPosition position,
+                                          final Alliance alliance,
+                                          final MoveList moves) {
+        final long king = position.getPieceBitBoard(alliance, PieceType.KING);
+        if (king == BitBoards.EMPTY) {
+            throw new RuntimeException("No " + alliance + " king on the board");
+        }
+        final int kingSquare = BitBoards.firstSquare(king);
+        final Alliance attacker = alliance.opposite();
+        final long occupied = position.getOccupiedBitBoard();
+        final long enemies = position.getAllianceBitBoard(attacker);
+        final long checkers = attackersOf(position, kingSquare, attacker, occupied);
+
+        long kingDestinations = LeaperBitBoards.kingAttacks(kingSquare) & ~position.getAllianceBitBoard(alliance);
+        final long occupiedWithoutKing = occupied & ~king;
+        while (kingDestinations != BitBoards.EMPTY) {
+            final int to = BitBoards.firstSquare(kingDestinations);
+            if (attackersOf(position, to, attacker, occupiedWithoutKing) == BitBoards.EMPTY) {
+                moves.add(CompactMove.encode(kingSquare, to, BitBoards.isSet(enemies, to) ? CompactMove.CAPTURE : CompactMove.QUIET));
+            }
+            kingDestinations = BitBoards.clearFirstSquare(kingDestinations);
+        }
+
+        final int numCheckers = BitBoards.countSquares(checkers);
+        if (numCheckers > 1) {
+            return;
+        }
+        final long evasionMask = numCheckers == 0 ? ALL_SQUARES
+                : checkers | BETWEEN[kingSquare][BitBoards.firstSquare(checkers)];
+        generatePieceMoves(position, alliance, evasionMask, pinnedPieces(position, alliance, kingSquare), kingSquare, moves);
+        if (numCheckers == 0) {
+            generateCastleMoves(position, alliance, moves);
+        }
+    }
+
+    public static long attackersOf(final BitBoardPosition position, final int square, final Alliance attacker) {
+        return attackersOf(position, square, attacker, position.getOccupiedBitBoard());
+    }
+
+    public static long attackedSquares(final BitBoardPosition position, final Alliance alliance) {
+        final long occupied = position.getOccupiedBitBoard();
+        long attacked = BitBoards.EMPTY;
+        long pawns = position.getPieceBitBoard(alliance, PieceType.PAWN);
+        while (pawns != BitBoards.EMPTY) {
+            attacked |= LeaperBitBoards.pawnAttacks(alliance, BitBoards.firstSquare(pawns));
+            pawns = BitBoards.clearFirstSquare(pawns);
+        }
+        long knights = position.getPieceBitBoard(alliance, PieceType.KNIGHT);
+        while (knights != BitBoards.EMPTY) {
+            attacked |= LeaperBitBoards.knightAttacks(BitBoards.firstSquare(knights));
+            knights = BitBoards.clearFirstSquare(knights);
+        }
+        final long queens = position.getPieceBitBoard(alliance, PieceType.QUEEN);
+        long diagonalSliders = position.getPieceBitBoard(alliance, PieceType.BISHOP) | queens;
+        while (diagonalSliders != BitBoards.EMPTY) {
+            attacked |= MagicBitBoards.bishopAttacks(BitBoards.firstSquare(diagonalSliders), occupied);
+            diagonalSliders = BitBoards.clearFirstSquare(diagonalSliders);
+        }
+        long straightSliders = position.getPieceBitBoard(alliance, PieceType.ROOK) | queens;
+        while (straightSliders != BitBoards.EMPTY) {
+            attacked |= MagicBitBoards.rookAttacks(BitBoards.firstSquare(straightSliders), occupied);
+            straightSliders = BitBoards.clearFirstSquare(straightSliders);
+        }
+        final long king = position.getPieceBitBoard(alliance, PieceType.KING);
+        if (king != BitBoards.EMPTY) {
+            attacked |= LeaperBitBoards.kingAttacks(BitBoards.firstSquare(king));
+        }
+        return attacked;
+    }
+
+    public static boolean isSquareAttacked(final BitBoardPosition position, final int square, final Alliance attacker) {
+        return attackersOf(position, square, attacker) != BitBoards.EMPTY;
+    }
+
+    public static boolean isInCheck(final BitBoardPosition position, final Alliance alliance) {
+        final long king = position.getPieceBitBoard(alliance, PieceType.KING);
+        return king != BitBoards.EMPTY && isSquareAttacked(position, BitBoards.firstSquare(king), alliance.opposite());
+    }
+
+    // decided on bitboards before the move is made: the placed piece is tested from its destination, and
+    // sliders are traced from the enemy king through the vacated squares, which also finds discovered checks
+    public static boolean givesCheck(final BitBoardPosition position, final int move) {
+        final int from = CompactMove.getFrom(move);
+        final int to = CompactMove.getTo(move);
+        final int flag = CompactMove.getFlag(move);
+        final Alliance alliance = BitBoards.isSet(position.getAllianceBitBoard(Alliance.WHITE), from)
+                ? Alliance.WHITE : Alliance.BLACK;
+        final long enemyKing = position.getPieceBitBoard(alliance.opposite(), PieceType.KING);
+        if (enemyKing == BitBoards.EMPTY) {
+            return false;
+        }
+        final int kingSquare = BitBoards.firstSquare(enemyKing);
+        final PieceType placedType = CompactMove.isPromotion(move) ? CompactMove.getPromotionType(move)
+                : pieceTypeOn(position, alliance, from);
+        final long fromMask = BitBoards.squareMask(from);
+        final long toMask = BitBoards.squareMask(to);
+        long occupied = (position.getOccupiedBitBoard() & ~fromMask) | toMask;
+        final long queens = position.getPieceBitBoard(alliance, PieceType.QUEEN);
+        long straightSliders = (position.getPieceBitBoard(alliance, PieceType.ROOK) | queens) & ~fromMask;
+        long diagonalSliders = (position.getPieceBitBoard(alliance, PieceType.BISHOP) | queens) & ~fromMask;
+        if (placedType == PieceType.ROOK || placedType == PieceType.QUEEN) {
+            straightSliders |= toMask;
+        }
+        if (placedType == PieceType.BISHOP || placedType == PieceType.QUEEN) {
+            diagonalSliders |= toMask;
+        }
+        if (flag == CompactMove.EN_PASSANT) {
+            occupied &= ~BitBoards.squareMask(from - from % BoardUtils.NUM_TILES_PER_ROW + to % BoardUtils.NUM_TILES_PER_ROW);
+        } else if (flag == CompactMove.KING_SIDE_CASTLE || flag == CompactMove.QUEEN_SIDE_CASTLE) {
+            final long rookMove = flag == CompactMove.KING_SIDE_CASTLE
+                    ? BitBoards.squareMask(to + 1) | BitBoards.squareMask(to - 1)
+                    : BitBoards.squareMask(to - 2) | BitBoards.squareMask(to + 1);
+            occupied ^= rookMove;
+            straightSliders ^= rookMove;
+        }
+        if ((MagicBitBoards.rookAttacks(kingSquare, occupied) & straightSliders) != BitBoards.EMPTY
+                || (MagicBitBoards.bishopAttacks(kingSquare, occupied) & diagonalSliders) != BitBoards.EMPTY) {
+            return true;
+        }
+        if (placedType == PieceType.KNIGHT) {
+            return (LeaperBitBoards.knightAttacks(to) & enemyKing) != BitBoards.EMPTY;
+        }
+        return placedType == PieceType.PAWN && (LeaperBitBoards.pawnAttacks(alliance, to) & enemyKing) != BitBoards.EMPTY;
+    }
+
+    // attackers seen through the given occupancy; pieces missing from it still appear in the result
+    public static long attackersOf(final BitBoardPosition position,
+                                   final int square,
+                                   final Alliance attacker,
+                                   final long occupied) {
+        final long queens = position.getPieceBitBoard(attacker, PieceType.QUEEN);
+        return (LeaperBitBoards.pawnAttacks(attacker.opposite(), square) & position.getPieceBitBoard(attacker, PieceType.PAWN))
+                | (LeaperBitBoards.knightAttacks(square) & position.getPieceBitBoard(attacker, PieceType.KNIGHT))
+                | (LeaperBitBoards.kingAttacks(square) & position.getPieceBitBoard(attacker, PieceType.KING))
+                | (MagicBitBoards.bishopAttacks(square, occupied) & (position.getPieceBitBoard(attacker, PieceType.BISHOP) | queens))
+                | (MagicBitBoards.rookAttacks(square, occupied) & (position.getPieceBitBoard(attacker, PieceType.ROOK) | queens));
+    }
+
+    private static PieceType pieceTypeOn(final BitBoardPosition position, final Alliance alliance, final int square) {
+        for (final PieceType pieceType : PieceType.values()) {
+            if (BitBoards.isSet(position.getPieceBitBoard(alliance, pieceType), square)) {
+                return pieceType;
+            }
+        }
+        throw new RuntimeException("No " + alliance + " piece on " + BoardUtils.getPositionAtCoordinate(square));
+    }
+
+    private static long pinnedPieces(final BitBoardPosition position, final Alliance alliance, final int kingSquare) {
+        final Alliance attacker = alliance.opposite();
+        final long occupied = position.getOccupiedBitBoard();
+        final long enemies = position.getAllianceBitBoard(attacker);
+        final long queens = position.getPieceBitBoard(attacker, PieceType.QUEEN);
+        long pinners = (MagicBitBoards.rookAttacks(kingSquare, enemies) & (position.getPieceBitBoard(attacker, PieceType.ROOK) | queens))
+                | (MagicBitBoards.bishopAttacks(kingSquare, enemies) & (position.getPieceBitBoard(attacker, PieceType.BISHOP) | queens));
+        long pinned = BitBoards.EMPTY;
+        while (pinners != BitBoards.EMPTY) {
+            final long blockers = BETWEEN[kingSquare][BitBoards.firstSquare(pinners)] & occupied;
+            if (BitBoards.countSquares(blockers) == 1) {
+                pinned |= blockers & position.getAllianceBitBoard(alliance);
+            }
+            pinners = BitBoards.clearFirstSquare(pinners);
+        }
+        return pinned;
+    }
+
+    private static void generatePieceMoves(final BitBoardPosition position,
+                                           final Alliance alliance,
+                                           final long evasionMask,
+                                           final long pinned,
+                                           final int kingSquare,
+                                           final MoveList moves) {
+        final long occupied = position.getOccupiedBitBoard();
+        final long targets = ~position.getAllianceBitBoard(alliance) & evasionMask;
+        final long enemies = position.getAllianceBitBoard(alliance.opposite());
+
+        generatePawnMoves(position, alliance, evasionMask, pinned, kingSquare, moves);
+
+        long knights = position.getPieceBitBoard(alliance, PieceType.KNIGHT) & ~pinned;
+        while (knights != BitBoards.EMPTY) {
+            final int from = BitBoards.firstSquare(knights);
+            addMoves(from, LeaperBitBoards.knightAttacks(from) & targets, enemies, moves);
+            knights = BitBoards.clearFirstSquare(knights);
+        }
+        final long queens = position.getPieceBitBoard(alliance, PieceType.QUEEN);
+        long diagonalSliders = position.getPieceBitBoard(alliance, PieceType.BISHOP) | queens;
+        while (diagonalSliders != BitBoards.EMPTY) {
+            final int from = BitBoards.firstSquare(diagonalSliders);
+            addMoves(from, MagicBitBoards.bishopAttacks(from, occupied) & targets & pinRay(pinned, kingSquare, from), enemies, moves);
+            diagonalSliders = BitBoards.clearFirstSquare(diagonalSliders);
+        }
+        long straightSliders = position.getPieceBitBoard(alliance, PieceType.ROOK) | queens;
+        while (straightSliders != BitBoards.EMPTY) {
+            final int from = BitBoards.firstSquare(straightSliders);
+            addMoves(from, MagicBitBoards.rookAttacks(from, occupied) & targets & pinRay(pinned, kingSquare, from), enemies, moves);
+            straightSliders = BitBoards.clearFirstSquare(straightSliders);
+        }
+    }
+
+    private static long pinRay(final long pinned, final int kingSquare, final int square) {
+        return BitBoards.isSet(pinned, square) ? LINE[kingSquare][square] : ALL_SQUARES;
+    }
+
+    private static void addMoves(final int from, long destinations, final long enemies, final MoveList moves) {
+        while (destinations != BitBoards.EMPTY) {
+            final int to = BitBoards.firstSquare(destinations);
+            moves.add(CompactMove.encode(from, to, BitBoards.isSet(enemies, to) ? CompactMove.CAPTURE : CompactMove.QUIET));
+            destinations = BitBoards.clearFirstSquare(destinations);
+        }
+    }
+
+    private static void generatePawnMoves(final BitBoardPosition position,
+                                          final Alliance alliance,
+                                          final long evasionMask,
+                                          final long pinned,
+                                          final int kingSquare,
+                                          final MoveList moves) {
+        final long occupied = position.getOccupiedBitBoard();
+        final long enemies = position.getAllianceBitBoard(alliance.opposite());
+        final int forwardOffset = alliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+        final boolean[] startRank = alliance.isWhite() ? BoardUtils.SECOND_RANK : BoardUtils.SEVENTH_RANK;
+        final int enPassantSquare = position.getEnPassantSquare();
+        final long enemyPawns = position.getPieceBitBoard(alliance.opposite(), PieceType.PAWN);
+
+        long pawns = position.getPieceBitBoard(alliance, PieceType.PAWN);
+        while (pawns != BitBoards.EMPTY) {
+            final int from = BitBoards.firstSquare(pawns);
+            final long allowed = evasionMask & pinRay(pinned, kingSquare, from);
+            final int to = from + forwardOffset;
+            if (!BitBoards.isSet(occupied, to)) {
+                if (BitBoards.isSet(allowed, to)) {
+                    if (alliance.isPawnPromotionSquare(to)) {
+                        addPromotions(from, to, false, moves);
+                    } else {
+                        moves.add(CompactMove.encode(from, to, CompactMove.QUIET));
+                    }
+                }
+                if (startRank[from] && !BitBoards.isSet(occupied, to + forwardOffset)
+                        && BitBoards.isSet(allowed, to + forwardOffset)) {
+                    moves.add(CompactMove.encode(from, to + forwardOffset, CompactMove.DOUBLE_PAWN_PUSH));
+                }
+            }
+            final long attacks = LeaperBitBoards.pawnAttacks(alliance, from);
+            long captures = attacks & enemies & allowed;
+            while (captures != BitBoards.EMPTY) {
+                final int captureSquare = BitBoards.firstSquare(captures);
+                if (alliance.isPawnPromotionSquare(captureSquare)) {
+                    addPromotions(from, captureSquare, true, moves);
+                } else {
+                    moves.add(CompactMove.encode(from, captureSquare, CompactMove.CAPTURE));
+                }
+                captures = BitBoards.clearFirstSquare(captures);
+            }
+            if (enPassantSquare != BoardUtils.NO_SQUARE && BitBoards.isSet(attacks, enPassantSquare)
+                    && BitBoards.isSet(enemyPawns, enPassantSquare - forwardOffset)
+                    && (kingSquare == BoardUtils.NO_SQUARE
+                        || isEnPassantLegal(position, alliance, kingSquare, from, enPassantSquare, enPassantSquare - forwardOffset))) {
+                moves.add(CompactMove.encode(from, enPassantSquare, CompactMove.EN_PASSANT));
+            }
+            pawns = BitBoards.clearFirstSquare(pawns);
+        }
+    }
+
+    private static boolean isEnPassantLegal(final BitBoardPosition position,
+                                            final Alliance alliance,
+                                            final int kingSquare,
+                                            final int from,
+                                            final int to,
+                                            final int capturedSquare) {
+        final long capturedPawn = BitBoards.squareMask(capturedSquare);
+        final long occupied = (position.getOccupiedBitBoard() & ~BitBoards.squareMask(from) & ~capturedPawn)
+                | BitBoards.squareMask(to);
+        return (attackersOf(position, kingSquare, alliance.opposite(), occupied) & ~capturedPawn) == BitBoards.EMPTY;
+    }
+
+    private static void addPromotions(final int from, final int to, final boolean isCapture, final MoveList moves) {
+        for (final PieceType promotionType : PROMOTION_TYPES) {
+            moves.add(CompactMove.encodePromotion(from, to, promotionType, isCapture));
+        }
+    }
+
+    private static void generateCastleMoves(final BitBoardPosition position, final Alliance alliance, final MoveList moves) {
+        final int castlingRights = position.getCastlingRights();
+        final int kingSide = alliance.isWhite() ? CastlingRights.WHITE_KING_SIDE : CastlingRights.BLACK_KING_SIDE;
+        final int queenSide = alliance.isWhite() ? CastlingRights.WHITE_QUEEN_SIDE : CastlingRights.BLACK_QUEEN_SIDE;
+        if ((castlingRights & (kingSide | queenSide)) == 0) {
+            return;
+        }
+        final int kingSquare = alliance.isWhite() ? 60 : 4;
+        final long occupied = position.getOccupiedBitBoard();
+        final boolean kingSidePathClear = (castlingRights & kingSide) != 0
+                && (occupied & (BitBoards.squareMask(kingSquare + 1) | BitBoards.squareMask(kingSquare + 2))) == BitBoards.EMPTY;
+        final boolean queenSidePathClear = (castlingRights & queenSide) != 0
+                && (occupied & (BitBoards.squareMask(kingSquare - 1) | BitBoards.squareMask(kingSquare - 2)
+                        | BitBoards.squareMask(kingSquare - 3))) == BitBoards.EMPTY;
+        if (!kingSidePathClear && !queenSidePathClear) {
+            return;
+        }
+        final long attacked = position.getAttackedSquares(alliance.opposite());
+        if (BitBoards.isSet(attacked, kingSquare)) {
+            return;
+        }
+        if (kingSidePathClear
+                && (attacked & (BitBoards.squareMask(kingSquare + 1) | BitBoards.squareMask(kingSquare + 2))) == BitBoards.EMPTY) {
+            moves.add(CompactMove.encode(kingSquare, kingSquare + 2, CompactMove.KING_SIDE_CASTLE));
+        }
+        if (queenSidePathClear
+                && (attacked & (BitBoards.squareMask(kingSquare - 1) | BitBoards.squareMask(kingSquare - 2))) == BitBoards.EMPTY) {
+            moves.add(CompactMove.encode(kingSquare, kingSquare - 2, CompactMove.QUEEN_SIDE_CASTLE));
+        }
+    }
+}
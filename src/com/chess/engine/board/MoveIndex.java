@@ -0,0 +1,68 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Collection;
+
+import static com.chess.engine.board.Move.*;
+
+public final class MoveIndex {
+    private static final int EMPTY_SLOT = 0;
+
+    private final int[] keys;
+    private final Move[] moves;
+    private final int mask;
+
+    public MoveIndex(final Collection<Move> legalMoves) {
+        final int capacity = Integer.highestOneBit(Math.max(legalMoves.size(), 1) * 4 - 1) << 1;
+        this.keys = new int[capacity];
+        this.moves = new Move[capacity];
+        this.mask = capacity - 1;
+        for (final Move move : legalMoves) {
+            final PieceType promotionType = move instanceof PawnPromotion ? ((PawnPromotion) move).getPromotionType() : null;
+            put(key(move.getCurrentCoordinate(), move.getDestinationCoordinate(), promotionType), move);
+            if (promotionType != null) {
+                put(key(move.getCurrentCoordinate(), move.getDestinationCoordinate(), null), move);
+            }
+        }
+    }
+
+    public Move get(final int currentCoordinate, final int destinationCoordinate, final PieceType promotionType) {
+        if (!BoardUtils.isValidTileCoordinate(currentCoordinate) || !BoardUtils.isValidTileCoordinate(destinationCoordinate)) {
+            return NULL_MOVE;
+        }
+        final int key = key(currentCoordinate, destinationCoordinate, promotionType);
+        for (int slot = hash(key); this.keys[slot] != EMPTY_SLOT; slot = (slot + 1) & this.mask) {
+            if (this.keys[slot] == key) {
+                return this.moves[slot];
+            }
+        }
+        return NULL_MOVE;
+    }
+
+    public boolean contains(final Move move) {
+        final PieceType promotionType = move instanceof PawnPromotion ? ((PawnPromotion) move).getPromotionType() : null;
+        final Move indexedMove = get(move.getCurrentCoordinate(), move.getDestinationCoordinate(), promotionType);
+        return indexedMove != NULL_MOVE && indexedMove.equals(move);
+    }
+
+    private void put(final int key, final Move move) {
+        int slot = hash(key);
+        while (this.keys[slot] != EMPTY_SLOT) {
+            if (this.keys[slot] == key) {
+                return;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        this.keys[slot] = key;
+        this.moves[slot] = move;
+    }
+
+    private int hash(final int key) {
+        return (key * 0x9E3779B9 >>> 16) & this.mask;
+    }
+
+    private static int key(final int currentCoordinate, final int destinationCoordinate, final PieceType promotionType) {
+        return (currentCoordinate | destinationCoordinate << 6 | (promotionType == null ? 0 : promotionType.ordinal() + 1) << 12) + 1;
+    }
+}
@@ -0,0 +1,280 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.*;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.google.common.collect.Iterables;
+
+public class SearchBoard implements BitBoardPosition {
+    public static final int NO_PIECE = -1;
+
+    private static final int MAX_PLY = 1024;
+
+    private final long[] pieceBitBoards;
+    private final long[] allianceBitBoards;
+    private long occupiedBitBoard;
+    private final int[] squares;
+    private Alliance sideToMove;
+    private int castlingRights;
+    private int enPassantSquare;
+    private int halfMoveClock;
+    private long zobristKey;
+    private long pawnKey;
+    private int pieceSquareScore;
+    private int gamePhase;
+
+    private int ply;
+    private final int[] moveStack;
+    private final int[] capturedPieceStack;
+    private final int[] castlingRightsStack;
+    private final int[] enPassantSquareStack;
+    private final int[] halfMoveClockStack;
+    private final long[] zobristKeyStack;
+
+    public SearchBoard(final Board board) {
+        this.pieceBitBoards = new long[BitBoards.NUM_ALLIANCES * BitBoards.NUM_PIECE_TYPES];
+        this.allianceBitBoards = new long[BitBoards.NUM_ALLIANCES];
+        this.squares = new int[BoardUtils.NUM_TILES];
+        this.moveStack = new int[MAX_PLY];
+        this.capturedPieceStack = new int[MAX_PLY];
+        this.castlingRightsStack = new int[MAX_PLY];
+        this.enPassantSquareStack = new int[MAX_PLY];
+        this.halfMoveClockStack = new int[MAX_PLY];
+        this.zobristKeyStack = new long[MAX_PLY];
+
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            this.squares[i] = NO_PIECE;
+        }
+        for (final Piece piece : Iterables.concat(board.getWhitePieces(), board.getBlackPieces())) {
+            putPiece(piece.getPiecePosition(), BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType()));
+        }
+        this.sideToMove = board.currentPlayer().getAlliance();
+        this.castlingRights = board.getCastlingRights();
+        this.enPassantSquare = board.getEnPassantSquare();
+        this.halfMoveClock = 0;
+        this.zobristKey = board.zobristKey();
+        this.ply = 0;
+    }
+
+    public void makeMove(final Move move) {
+        makeMove(CompactMove.fromMove(move));
+    }
+
+    public void makeMove(final int move) {
+        if (this.ply == MAX_PLY) {
+            throw new RuntimeException("Search board undo stack is full");
+        }
+        final int from = CompactMove.getFrom(move);
+        final int to = CompactMove.getTo(move);
+        final int flag = CompactMove.getFlag(move);
+        final int movedPiece = this.squares[from];
+        final int captureSquare = flag == CompactMove.EN_PASSANT ? enPassantCaptureSquare(from, to) : to;
+        final int capturedPiece = this.squares[captureSquare];
+
+        this.moveStack[this.ply] = move;
+        this.capturedPieceStack[this.ply] = capturedPiece;
+        this.castlingRightsStack[this.ply] = this.castlingRights;
+        this.enPassantSquareStack[this.ply] = this.enPassantSquare;
+        this.halfMoveClockStack[this.ply] = this.halfMoveClock;
+        this.zobristKeyStack[this.ply] = this.zobristKey;
+        this.ply++;
+
+        if (capturedPiece != NO_PIECE) {
+            removePiece(captureSquare);
+        }
+        removePiece(from);
+        putPiece(to, CompactMove.isPromotion(move)
+                ? BitBoards.pieceIndex(this.sideToMove, CompactMove.getPromotionType(move)) : movedPiece);
+        if (flag == CompactMove.KING_SIDE_CASTLE) {
+            putPiece(to - 1, removePiece(to + 1));
+        } else if (flag == CompactMove.QUEEN_SIDE_CASTLE) {
+            putPiece(to + 1, removePiece(to - 2));
+        }
+
+        final boolean isPawnMove = movedPiece % BitBoards.NUM_PIECE_TYPES == PieceType.PAWN.ordinal();
+        this.halfMoveClock = isPawnMove || capturedPiece != NO_PIECE ? 0 : this.halfMoveClock + 1;
+        this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.castlingKey(this.castlingRights);
+        this.enPassantSquare = flag == CompactMove.DOUBLE_PAWN_PUSH ? (from + to) / 2 : BoardUtils.NO_SQUARE;
+        this.castlingRights = CastlingRights.afterMove(this.castlingRights, from, to);
+        this.sideToMove = this.sideToMove.opposite();
+        this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.castlingKey(this.castlingRights)
+                ^ Zobrist.sideToMoveFlip();
+    }
+
+    public void unmakeMove() {
+        if (this.ply == 0) {
+            throw new RuntimeException("No move to unmake");
+        }
+        this.ply--;
+        final int move = this.moveStack[this.ply];
+        final int from = CompactMove.getFrom(move);
+        final int to = CompactMove.getTo(move);
+        final int flag = CompactMove.getFlag(move);
+        final int capturedPiece = this.capturedPieceStack[this.ply];
+        this.sideToMove = this.sideToMove.opposite();
+
+        final int placedPiece = removePiece(to);
+        putPiece(from, CompactMove.isPromotion(move) ? BitBoards.pieceIndex(this.sideToMove, PieceType.PAWN) : placedPiece);
+        if (capturedPiece != NO_PIECE) {
+            putPiece(flag == CompactMove.EN_PASSANT ? enPassantCaptureSquare(from, to) : to, capturedPiece);
+        }
+        if (flag == CompactMove.KING_SIDE_CASTLE) {
+            putPiece(to + 1, removePiece(to - 1));
+        } else if (flag == CompactMove.QUEEN_SIDE_CASTLE) {
+            putPiece(to - 2, removePiece(to + 1));
+        }
+
+        this.castlingRights = this.castlingRightsStack[this.ply];
+        this.enPassantSquare = this.enPassantSquareStack[this.ply];
+        this.halfMoveClock = this.halfMoveClockStack[this.ply];
+        this.zobristKey = this.zobristKeyStack[this.ply];
+    }
+
+    public Board toBoard() {
+        final Board.Builder builder = new Board.Builder();
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            if (this.squares[square] != NO_PIECE) {
+                builder.setPiece(createPiece(square, this.squares[square]));
+            }
+        }
+        if (this.enPassantSquare != BoardUtils.NO_SQUARE) {
+            final int enPassantPawnSquare = this.enPassantSquare - this.sideToMove.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+            builder.setEnPassantPawn((Pawn) createPiece(enPassantPawnSquare, this.squares[enPassantPawnSquare]));
+        }
+        builder.setMoveMaker(this.sideToMove);
+        // every incrementally maintained term is handed over so the board does not rescan its pieces
+        builder.setZobristKey(this.zobristKey);
+        builder.setPawnKey(this.pawnKey);
+        builder.setEvaluationTerms(this.pieceSquareScore, this.gamePhase);
+        return builder.build();
+    }
+
+    public void generatePseudoLegalMoves(final MoveList moves) {
+        moves.clear();
+        MoveGenerator.generatePseudoLegalMoves(this, this.sideToMove, moves);
+    }
+
+    public void generateLegalMoves(final MoveList moves) {
+        moves.clear();
+        MoveGenerator.generateLegalMoves(this, this.sideToMove, moves);
+    }
+
+    public boolean isInCheck(final Alliance alliance) {
+        return MoveGenerator.isInCheck(this, alliance);
+    }
+
+    @Override
+    public long getPieceBitBoard(final Alliance alliance, final PieceType pieceType) {
+        return this.pieceBitBoards[BitBoards.pieceIndex(alliance, pieceType)];
+    }
+
+    @Override
+    public long getAllianceBitBoard(final Alliance alliance) {
+        return this.allianceBitBoards[alliance.ordinal()];
+    }
+
+    @Override
+    public long getOccupiedBitBoard() {
+        return this.occupiedBitBoard;
+    }
+
+    @Override
+    public long getAttackedSquares(final Alliance alliance) {
+        return MoveGenerator.attackedSquares(this, alliance);
+    }
+
+    public int getPieceIndex(final int square) {
+        return this.squares[square];
+    }
+
+    public Alliance getSideToMove() {
+        return this.sideToMove;
+    }
+
+    @Override
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    @Override
+    public int getEnPassantSquare() {
+        return this.enPassantSquare;
+    }
+
+    public int getHalfMoveClock() {
+        return this.halfMoveClock;
+    }
+
+    public long zobristKey() {
+        return this.zobristKey;
+    }
+
+    public long pawnKey() {
+        return this.pawnKey;
+    }
+
+    // packed middlegame and endgame material plus piece-square values, see PieceSquareTables
+    public int getPieceSquareScore() {
+        return this.pieceSquareScore;
+    }
+
+    public int getGamePhase() {
+        return this.gamePhase;
+    }
+
+    public int getPly() {
+        return this.ply;
+    }
+
+    private static int enPassantCaptureSquare(final int from, final int to) {
+        return from - from % BoardUtils.NUM_TILES_PER_ROW + to % BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    private static long pawnKey(final int pieceIndex, final int square) {
+        return pieceIndex % BitBoards.NUM_PIECE_TYPES == PieceType.PAWN.ordinal() ? Zobrist.pieceKey(pieceIndex, square) : 0L;
+    }
+
+    private void putPiece(final int square, final int pieceIndex) {
+        final long squareMask = BitBoards.squareMask(square);
+        this.squares[square] = pieceIndex;
+        this.pieceBitBoards[pieceIndex] |= squareMask;
+        this.allianceBitBoards[pieceIndex / BitBoards.NUM_PIECE_TYPES] |= squareMask;
+        this.occupiedBitBoard |= squareMask;
+        this.zobristKey ^= Zobrist.pieceKey(pieceIndex, square);
+        this.pawnKey ^= pawnKey(pieceIndex, square);
+        this.pieceSquareScore += PieceSquareTables.score(pieceIndex, square);
+        this.gamePhase += PieceSquareTables.phase(pieceIndex);
+    }
+
+    private int removePiece(final int square) {
+        final long squareMask = BitBoards.squareMask(square);
+        final int pieceIndex = this.squares[square];
+        this.squares[square] = NO_PIECE;
+        this.pieceBitBoards[pieceIndex] &= ~squareMask;
+        this.allianceBitBoards[pieceIndex / BitBoards.NUM_PIECE_TYPES] &= ~squareMask;
+        this.occupiedBitBoard &= ~squareMask;
+        this.zobristKey ^= Zobrist.pieceKey(pieceIndex, square);
+        this.pawnKey ^= pawnKey(pieceIndex, square);
+        this.pieceSquareScore -= PieceSquareTables.score(pieceIndex, square);
+        this.gamePhase -= PieceSquareTables.phase(pieceIndex);
+        return pieceIndex;
+    }
+
+    private Piece createPiece(final int square, final int pieceIndex) {
+        final Alliance alliance = Alliance.values()[pieceIndex / BitBoards.NUM_PIECE_TYPES];
+        final PieceType pieceType = PieceType.values()[pieceIndex % BitBoards.NUM_PIECE_TYPES];
+        final boolean isFirstMove;
+        switch (pieceType) {
+            case PAWN:
+                isFirstMove = alliance.isWhite() ? BoardUtils.SECOND_RANK[square] : BoardUtils.SEVENTH_RANK[square];
+                break;
+            case ROOK:
+            case KING:
+                isFirstMove = CastlingRights.isHeldOnSquare(this.castlingRights, square);
+                break;
+            default:
+                isFirstMove = false;
+        }
+        return Piece.createPiece(pieceType, alliance, square, isFirstMove);
+    }
+}
@@ -1,5 +1,6 @@
 package com.chess.engine.board;
 
+import com.chess.engine.Alliance;
 import com.chess.engine.pieces.Piece;
 import com.google.common.collect.ImmutableMap;
 
@@ -11,6 +12,7 @@ public abstract class Tile {
     protected final int tileCoordinate;
 
     private static final Map<Integer, EmptyTile> EMPTY_TILES_CACHE = createAllPossibleEmptyTiles();
+    private static final OccupiedTile[] OCCUPIED_TILES_CACHE = createAllPossibleOccupiedTiles();
 
     private Tile(final int tileCoordinate) {
         this.tileCoordinate = tileCoordinate;
@@ -24,8 +26,23 @@ public abstract class Tile {
         return ImmutableMap.copyOf(emptyTileMap);
     }
 
+    private static OccupiedTile[] createAllPossibleOccupiedTiles() {
+        final OccupiedTile[] occupiedTiles = new OccupiedTile[Piece.NUM_CACHED_PIECES];
+        for (final Alliance alliance : Alliance.values()) {
+            for (final Piece.PieceType pieceType : Piece.PieceType.values()) {
+                for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+                    for (final boolean isFirstMove : new boolean[]{true, false}) {
+                        final Piece piece = Piece.createPiece(pieceType, alliance, i, isFirstMove);
+                        occupiedTiles[piece.getCacheIndex()] = new OccupiedTile(i, piece);
+                    }
+                }
+            }
+        }
+        return occupiedTiles;
+    }
+
     static Tile createTile(final int tileCoordinate, final Piece piece) {
-        return piece != null ? new OccupiedTile(tileCoordinate, piece) : EMPTY_TILES_CACHE.get(tileCoordinate);
+        return piece != null ? OCCUPIED_TILES_CACHE[piece.getCacheIndex()] : EMPTY_TILES_CACHE.get(tileCoordinate);
     }
 
     public abstract boolean isTileOccupied();
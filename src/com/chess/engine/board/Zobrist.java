@@ -0,0 +1,93 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+
+import java.util.SplittableRandom;
+
+public class Zobrist {
+    private static final long ZOBRIST_SEED = 0x9E3779B97F4A7C15L;
+
+    private static final long[][] PIECE_SQUARE_KEYS = new long[BitBoards.NUM_ALLIANCES * BitBoards.NUM_PIECE_TYPES][BoardUtils.NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[CastlingRights.ALL + 1];
+    private static final long[] EN_PASSANT_FILE_KEYS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        final SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+        for (final long[] squareKeys : PIECE_SQUARE_KEYS) {
+            for (int i = 0; i < squareKeys.length; i++) {
+                squareKeys[i] = random.nextLong();
+            }
+        }
+        for (int i = 1; i < CASTLING_KEYS.length; i++) {
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < EN_PASSANT_FILE_KEYS.length; i++) {
+            EN_PASSANT_FILE_KEYS[i] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static long pieceKey(final int pieceIndex, final int square) {
+        return PIECE_SQUARE_KEYS[pieceIndex][square];
+    }
+
+    public static long pieceKey(final Piece piece) {
+        return PIECE_SQUARE_KEYS[BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType())][piece.getPiecePosition()];
+    }
+
+    // pawn structure key built from the same piece keys, covering pawns only
+    public static long pawnKey(final Piece piece) {
+        return piece != null && piece.getPieceType() == Piece.PieceType.PAWN ? pieceKey(piece) : 0L;
+    }
+
+    public static long castlingKey(final int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    public static long enPassantKey(final int enPassantSquare) {
+        return enPassantSquare == BoardUtils.NO_SQUARE ? 0L : EN_PASSANT_FILE_KEYS[enPassantSquare % BoardUtils.NUM_TILES_PER_ROW];
+    }
+
+    public static long enPassantKey(final Pawn enPassantPawn) {
+        return enPassantPawn == null ? 0L : EN_PASSANT_FILE_KEYS[enPassantPawn.getPiecePosition() % BoardUtils.NUM_TILES_PER_ROW];
+    }
+
+    public static long sideToMoveKey(final Alliance alliance) {
+        return alliance.isBlack() ? BLACK_TO_MOVE_KEY : 0L;
+    }
+
+    public static long sideToMoveFlip() {
+        return BLACK_TO_MOVE_KEY;
+    }
+
+    static long calculateKey(final Board board, final Alliance sideToMove) {
+        long key = 0L;
+        for (final Piece piece : board.getWhitePieces()) {
+            key ^= pieceKey(piece);
+        }
+        for (final Piece piece : board.getBlackPieces()) {
+            key ^= pieceKey(piece);
+        }
+        return key ^ castlingKey(board.getCastlingRights())
+                ^ enPassantKey(board.getEnPassantPawn())
+                ^ sideToMoveKey(sideToMove);
+    }
+
+    static long calculatePawnKey(final Board board) {
+        long key = 0L;
+        for (final Piece piece : board.getWhitePieces()) {
+            key ^= pawnKey(piece);
+        }
+        for (final Piece piece : board.getBlackPieces()) {
+            key ^= pawnKey(piece);
+        }
+        return key;
+    }
+}
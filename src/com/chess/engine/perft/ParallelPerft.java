@@ -0,0 +1,112 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.CompactMove;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class ParallelPerft {
+    public static final int DEFAULT_SPLIT_PLIES = 2;
+
+    private final ForkJoinPool pool;
+    private final int splitPlies;
+    private final PerftHashTable hashTable;
+
+    public ParallelPerft(final int parallelism) {
+        this(parallelism, DEFAULT_SPLIT_PLIES, null);
+    }
+
+    public ParallelPerft(final int parallelism, final PerftHashTable hashTable) {
+        this(parallelism, DEFAULT_SPLIT_PLIES, hashTable);
+    }
+
+    public ParallelPerft(final int parallelism, final int splitPlies, final PerftHashTable hashTable) {
+        if (parallelism < 1) {
+            throw new RuntimeException("Parallelism must be at least 1, was " + parallelism);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.splitPlies = splitPlies;
+        this.hashTable = hashTable;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public long perft(final Board board, final int depth) {
+        return this.pool.invoke(new PerftTask(board, depth, this.splitPlies, this.hashTable));
+    }
+
+    public PerftResult divide(final Board board, final int depth) {
+        if (depth < 1) {
+            throw new RuntimeException("Divide depth must be at least 1, was " + depth);
+        }
+        final long start = System.nanoTime();
+        final Map<String, PerftTask> rootTasks = new LinkedHashMap<>();
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                rootTasks.put(CompactMove.toString(CompactMove.fromMove(move)),
+                        new PerftTask(transition.getTransitionBoard(), depth - 1, this.splitPlies - 1, this.hashTable));
+            }
+        }
+        for (final PerftTask task : rootTasks.values()) {
+            this.pool.execute(task);
+        }
+        final Map<String, Long> rootMoveNodes = new LinkedHashMap<>();
+        long nodes = 0;
+        for (final Map.Entry<String, PerftTask> entry : rootTasks.entrySet()) {
+            final long moveNodes = entry.getValue().join();
+            rootMoveNodes.put(entry.getKey(), moveNodes);
+            nodes += moveNodes;
+        }
+        return new PerftResult(depth, nodes, System.nanoTime() - start, rootMoveNodes);
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private static final class PerftTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Board board;
+        private final int depth;
+        private final int splitPlies;
+        private final PerftHashTable hashTable;
+
+        PerftTask(final Board board, final int depth, final int splitPlies, final PerftHashTable hashTable) {
+            this.board = board;
+            this.depth = depth;
+            this.splitPlies = splitPlies;
+            this.hashTable = hashTable;
+        }
+
+        @Override
+        protected Long compute() {
+            if (this.splitPlies <= 0 || this.depth <= 2) {
+                return this.hashTable == null ? Perft.perft(this.board, this.depth)
+                        : Perft.perft(this.board, this.depth, this.hashTable);
+            }
+            final List<PerftTask> subtasks = new ArrayList<>();
+            for (final Move move : this.board.currentPlayer().getLegalMoves()) {
+                final MoveTransition transition = this.board.currentPlayer().makeMove(move);
+                if (transition.getMoveStatus().isDone()) {
+                    subtasks.add(new PerftTask(transition.getTransitionBoard(), this.depth - 1, this.splitPlies - 1, this.hashTable));
+                }
+            }
+            long nodes = 0;
+            for (final PerftTask subtask : invokeAll(subtasks)) {
+                nodes += subtask.join();
+            }
+            return nodes;
+        }
+    }
+}
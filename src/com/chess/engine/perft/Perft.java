@@ -0,0 +1,75 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.CompactMove;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.MoveTransition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class Perft {
+
+    private Perft() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static long perft(final Board board, final int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (depth == 1) {
+            return board.currentPlayer().getLegalMoves().size();
+        }
+        long nodes = 0;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                nodes += perft(transition.getTransitionBoard(), depth - 1);
+            }
+        }
+        return nodes;
+    }
+
+    public static long perft(final Board board, final int depth, final PerftHashTable hashTable) {
+        if (depth <= 1) {
+            return perft(board, depth);
+        }
+        final long cachedNodes = hashTable.probe(board.zobristKey(), depth);
+        if (cachedNodes >= 0) {
+            return cachedNodes;
+        }
+        long nodes = 0;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                nodes += perft(transition.getTransitionBoard(), depth - 1, hashTable);
+            }
+        }
+        hashTable.store(board.zobristKey(), depth, nodes);
+        return nodes;
+    }
+
+    public static PerftResult divide(final Board board, final int depth) {
+        return divide(board, depth, null);
+    }
+
+    public static PerftResult divide(final Board board, final int depth, final PerftHashTable hashTable) {
+        if (depth < 1) {
+            throw new RuntimeException("Divide depth must be at least 1, was " + depth);
+        }
+        final long start = System.nanoTime();
+        final Map<String, Long> rootMoveNodes = new LinkedHashMap<>();
+        long nodes = 0;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                final long moveNodes = hashTable == null ? perft(transition.getTransitionBoard(), depth - 1)
+                        : perft(transition.getTransitionBoard(), depth - 1, hashTable);
+                rootMoveNodes.put(CompactMove.toString(CompactMove.fromMove(move)), moveNodes);
+                nodes += moveNodes;
+            }
+        }
+        return new PerftResult(depth, nodes, System.nanoTime() - start, rootMoveNodes);
+    }
+}
@@ -0,0 +1,58 @@
+package com.chess.engine.perft;
+
+import java.util.Arrays;
+
+public final class PerftHashTable {
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int ENTRIES_PER_BUCKET = 2;
+    private static final int DEPTH_BITS = 8;
+    private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+
+    // lockless hashing: each entry stores (key ^ data, data) as two plain longs, and a probe only accepts
+    // an entry whose first word xor its second equals the key. A torn write that pairs one thread's key
+    // word with another thread's data word then fails the check and reads as a miss, so threads share
+    // the table without locks at the cost of an occasional lost entry
+    private final long[] table;
+    private final long bucketMask;
+
+    public PerftHashTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes < 1) {
+            throw new RuntimeException("Perft hash size must be at least 1 MB, was " + sizeInMegabytes);
+        }
+        final long buckets = Long.highestOneBit((long) sizeInMegabytes * 1024 * 1024 / (BYTES_PER_ENTRY * ENTRIES_PER_BUCKET));
+        if (buckets * ENTRIES_PER_BUCKET * 2 > Integer.MAX_VALUE - 8) {
+            throw new RuntimeException("Perft hash size is too large: " + sizeInMegabytes + " MB");
+        }
+        this.table = new long[(int) (buckets * ENTRIES_PER_BUCKET * 2)];
+        this.bucketMask = buckets - 1;
+    }
+
+    public long probe(final long key, final int depth) {
+        final int index = bucketIndex(key);
+        for (int entry = index; entry < index + ENTRIES_PER_BUCKET * 2; entry += 2) {
+            final long data = this.table[entry + 1];
+            if ((this.table[entry] ^ data) == key && (data & DEPTH_MASK) == depth) {
+                return data >>> DEPTH_BITS;
+            }
+        }
+        return -1;
+    }
+
+    public void store(final long key, final int depth, final long nodes) {
+        final int index = bucketIndex(key);
+        final long data = nodes << DEPTH_BITS | depth;
+        final long depthPreferredData = this.table[index + 1];
+        // the first entry keeps the deepest subtree, the second is always replaced
+        final int entry = depth >= (depthPreferredData & DEPTH_MASK) ? index : index + 2;
+        this.table[entry] = key ^ data;
+        this.table[entry + 1] = data;
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+    }
+
+    private int bucketIndex(final long key) {
+        return (int) (key & this.bucketMask) * ENTRIES_PER_BUCKET * 2;
+    }
+}
@@ -0,0 +1,55 @@
+package com.chess.engine.perft;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class PerftResult {
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final Map<String, Long> rootMoveNodes;
+
+    PerftResult(final int depth, final long nodes, final long elapsedNanos, final Map<String, Long> rootMoveNodes) {
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.rootMoveNodes = ImmutableMap.copyOf(rootMoveNodes);
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+    }
+
+    public Map<String, Long> getRootMoveNodes() {
+        return this.rootMoveNodes;
+    }
+
+    public long getNodesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : (long) (this.nodes * 1e9 / this.elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (final Map.Entry<String, Long> entry : this.rootMoveNodes.entrySet()) {
+            builder.append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+        }
+        builder.append(String.format("%nDepth: %d%nNodes: %d%nTime: %d ms%nNodes/s: %d%n",
+                this.depth, this.nodes, getElapsedMillis(), getNodesPerSecond()));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+
+public final class PerftRunner {
+    private static final long[] STANDARD_NODE_COUNTS = {
+            1L, 20L, 400L, 8902L, 197281L, 4865609L, 119060324L, 3195901860L, 84998978956L
+    };
+
+    private PerftRunner() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static void main(final String[] args) {
+        if (args.length < 1) {
+            System.out.println("usage: PerftRunner <depth> [--divide] [--threads <n>] [--hash <mb>] [--scaling]");
+            return;
+        }
+        final int depth = Integer.parseInt(args[0]);
+        boolean printDivide = false;
+        boolean printScaling = false;
+        int threads = 1;
+        int hashMegabytes = 0;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--divide":
+                    printDivide = true;
+                    break;
+                case "--scaling":
+                    printScaling = true;
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--hash":
+                    hashMegabytes = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new RuntimeException("Unknown perft option " + args[i]);
+            }
+        }
+        final Board board = Board.createStandardBoard();
+        final PerftHashTable hashTable = hashMegabytes > 0 ? new PerftHashTable(hashMegabytes) : null;
+        if (printScaling) {
+            printScalingReport(board, depth, threads, hashTable);
+            return;
+        }
+        final PerftResult result;
+        if (threads > 1) {
+            final ParallelPerft parallelPerft = new ParallelPerft(threads, hashTable);
+            result = parallelPerft.divide(board, depth);
+            parallelPerft.shutdown();
+        } else {
+            result = Perft.divide(board, depth, hashTable);
+        }
+        if (printDivide) {
+            System.out.print(result);
+        } else {
+            System.out.printf("Depth: %d%nNodes: %d%nTime: %d ms%nNodes/s: %d%n",
+                    result.getDepth(), result.getNodes(), result.getElapsedMillis(), result.getNodesPerSecond());
+        }
+        checkNodeCount(depth, result.getNodes());
+    }
+
+    private static void printScalingReport(final Board board,
+                                           final int depth,
+                                           final int maxThreads,
+                                           final PerftHashTable hashTable) {
+        Perft.perft(board, depth);
+        clear(hashTable);
+        final PerftResult sequential = Perft.divide(board, depth, hashTable);
+        System.out.printf("%-10s %14s %10s %14s %8s %10s%n", "threads", "nodes", "ms", "nodes/s", "speedup", "efficiency");
+        System.out.printf("%-10s %14d %10d %14d %8s %10s%n", "sequential",
+                sequential.getNodes(), sequential.getElapsedMillis(), sequential.getNodesPerSecond(), "1.00", "-");
+        checkNodeCount(depth, sequential.getNodes());
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            clear(hashTable);
+            final ParallelPerft parallelPerft = new ParallelPerft(threads, hashTable);
+            final PerftResult result = parallelPerft.divide(board, depth);
+            parallelPerft.shutdown();
+            final double speedup = (double) sequential.getElapsedNanos() / result.getElapsedNanos();
+            System.out.printf("%-10d %14d %10d %14d %8.2f %9.0f%%%n", threads,
+                    result.getNodes(), result.getElapsedMillis(), result.getNodesPerSecond(), speedup, 100 * speedup / threads);
+            if (result.getNodes() != sequential.getNodes()) {
+                System.out.println("MISMATCH with sequential count " + sequential.getNodes());
+            }
+            if (threads == maxThreads) {
+                break;
+            }
+        }
+    }
+
+    private static void clear(final PerftHashTable hashTable) {
+        if (hashTable != null) {
+            hashTable.clear();
+        }
+    }
+
+    private static void checkNodeCount(final int depth, final long nodes) {
+        if (depth < STANDARD_NODE_COUNTS.length) {
+            System.out.println(nodes == STANDARD_NODE_COUNTS[depth]
+                    ? "OK" : "MISMATCH, expected " + STANDARD_NODE_COUNTS[depth]);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.LeaperBitBoards;
 import com.chess.engine.board.Move;
 import com.google.common.collect.ImmutableList;
 
@@ -13,81 +15,56 @@ import java.util.List;
 import static com.chess.engine.board.Move.*;
 
 public class Pawn extends Piece {
-    private final int[] CANDIDATE_MOVE_COORDINATES = {7, 9, 8, 16};
-    public Pawn(int piecePosition, Alliance pieceAlliance) {
-        super(PieceType.PAWN, piecePosition, pieceAlliance, true);
-    }
+    private static final PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT};
 
-    public Pawn(int piecePosition, Alliance pieceAlliance, boolean isFirstMove) {
+    Pawn(final int piecePosition, final Alliance pieceAlliance, final boolean isFirstMove) {
         super(PieceType.PAWN, piecePosition, pieceAlliance, isFirstMove);
     }
 
     @Override
-    public Collection<Move> calculateLegalMoves(Board board) {
+    public Collection<Move> calculateLegalMoves(final Board board) {
         final List<Move> legalMoves = new ArrayList<>();
+        final int forwardOffset = this.pieceAlliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
 
-        for (final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES) {
-            int candidateDestinationCoordinate = this.piecePosition + (this.pieceAlliance.getDirection() * currentCandidateOffset);
-
-            if (!BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)) {
-                continue;
+        final int candidateDestinationCoordinate = this.piecePosition + forwardOffset;
+        if (BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)
+                && !BitBoards.isSet(board.getOccupiedBitBoard(), candidateDestinationCoordinate)) {
+            if (this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
+                for (final PieceType promotionType : PROMOTION_TYPES) {
+                    legalMoves.add(new PawnPromotion(new PawnMove(board, this, candidateDestinationCoordinate), promotionType));
+                }
+            } else {
+                legalMoves.add(new PawnMove(board, this, candidateDestinationCoordinate));
+            }
+            final int jumpDestinationCoordinate = candidateDestinationCoordinate + forwardOffset;
+            if (this.isFirstMove()
+                    && ((BoardUtils.SEVENTH_RANK[this.piecePosition] && this.pieceAlliance.isBlack())
+                    || (BoardUtils.SECOND_RANK[this.piecePosition] && this.pieceAlliance.isWhite()))
+                    && !BitBoards.isSet(board.getOccupiedBitBoard(), jumpDestinationCoordinate)) {
+                legalMoves.add(new PawnJump(board, this, jumpDestinationCoordinate));
             }
+        }
 
-            if (currentCandidateOffset == 8 && !board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-                if (this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                    legalMoves.add(new PawnPromotion(new PawnMove(board, this, candidateDestinationCoordinate)));
-                } else{
-                    legalMoves.add(new PawnMove(board, this, candidateDestinationCoordinate));
-                }
-            } else if (currentCandidateOffset == 16 && this.isFirstMove()
-                    && ((BoardUtils.SEVENTH_RANK[this.piecePosition] && this.getPieceAlliance().isBlack())
-                    || (BoardUtils.SECOND_RANK[this.piecePosition] && this.getPieceAlliance().isWhite()))) {
-                final int behindCandidateDestinationCoordinate = this.piecePosition + (this.pieceAlliance.getDirection() * 8);
-                if (!board.getTile(behindCandidateDestinationCoordinate).isTileOccupied()
-                        && !board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-                    legalMoves.add(new PawnJump(board, this, candidateDestinationCoordinate));
-                }
-            } else if (currentCandidateOffset == 7 &&
-                    !(BoardUtils.EIGHTH_COLUMN[this.piecePosition] && this.getPieceAlliance().isWhite()
-                            || BoardUtils.FIRST_COLUMN[this.piecePosition] && this.getPieceAlliance().isBlack())) {
-                if (board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-                    final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
-                    if (this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-                        if (this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                            legalMoves.add(new PawnPromotion(new PawnAttackMove(board, this, candidateDestinationCoordinate,pieceOnCandidate)));
-                        } else{
-                            legalMoves.add(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
-                        }
-                    }
-                } else if (board.getEnPassantPawn() != null) {
-                    if (board.getEnPassantPawn().getPiecePosition() == (this.piecePosition + this.pieceAlliance.getOppositeDirection())) {
-                        final Piece pieceOnCandidate = board.getEnPassantPawn();
-                        if (this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-                            legalMoves.add(new PawnEnPassantAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
-                        }
-                    }
+        final long attacks = LeaperBitBoards.pawnAttacks(this.pieceAlliance, this.piecePosition);
+        long captures = attacks & board.getOccupiedBitBoard() & ~board.getAllianceBitBoard(this.pieceAlliance);
+        while (captures != BitBoards.EMPTY) {
+            final int attackDestinationCoordinate = BitBoards.firstSquare(captures);
+            final Piece pieceOnCandidate = board.getPiece(attackDestinationCoordinate);
+            if (this.pieceAlliance.isPawnPromotionSquare(attackDestinationCoordinate)) {
+                for (final PieceType promotionType : PROMOTION_TYPES) {
+                    legalMoves.add(new PawnPromotion(new PawnAttackMove(board, this, attackDestinationCoordinate, pieceOnCandidate), promotionType));
                 }
-            } else if (currentCandidateOffset == 9 &&
-                    !(BoardUtils.FIRST_COLUMN[this.piecePosition] && this.getPieceAlliance().isWhite()
-                            || BoardUtils.EIGHTH_COLUMN[this.piecePosition] && this.getPieceAlliance().isBlack())) {
-                if (board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-                    final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
-                    if (this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-                        if (this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                            legalMoves.add(new PawnPromotion(new PawnAttackMove(board, this, candidateDestinationCoordinate,pieceOnCandidate)));
-                        } else{
-                            legalMoves.add(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
-                        }
-                    }
-                } else if (board.getEnPassantPawn() != null) {
-                    if (board.getEnPassantPawn().getPiecePosition() == (this.piecePosition - this.pieceAlliance.getOppositeDirection())) {
-                        final Piece pieceOnCandidate = board.getEnPassantPawn();
-                        if (this.pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-                            legalMoves.add(new PawnEnPassantAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
-                        }
-                    }
+            } else {
+                legalMoves.add(new PawnAttackMove(board, this, attackDestinationCoordinate, pieceOnCandidate));
+            }
+            captures = BitBoards.clearFirstSquare(captures);
+        }
 
-                }
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if (enPassantPawn != null && enPassantPawn.getPieceAlliance() != this.pieceAlliance) {
+            final int enPassantDestinationCoordinate = enPassantPawn.getPiecePosition() + forwardOffset;
+            if (BitBoards.isSet(attacks, enPassantDestinationCoordinate)) {
+                legalMoves.add(new PawnEnPassantAttackMove(board, this, enPassantDestinationCoordinate, enPassantPawn));
             }
         }
         return ImmutableList.copyOf(legalMoves);
@@ -95,7 +72,7 @@ public class Pawn extends Piece {
 
     @Override
     public Piece movePiece(Move move) {
-        return new Pawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance());
+        return createPiece(PieceType.PAWN, move.getMovedPiece().getPieceAlliance(), move.getDestinationCoordinate(), false);
     }
 
     @Override
@@ -104,6 +81,13 @@ public class Pawn extends Piece {
     }
 
     public Piece getPromotionPiece() {
-        return new Queen(this.piecePosition, this.pieceAlliance, false);
+        return getPromotionPiece(PieceType.QUEEN);
+    }
+
+    public Piece getPromotionPiece(final PieceType promotionType) {
+        if (promotionType == PieceType.PAWN || promotionType.isKing()) {
+            throw new RuntimeException("Cannot promote to " + promotionType);
+        }
+        return createPiece(promotionType, this.pieceAlliance, this.piecePosition, false);
     }
 }
@@ -1,17 +1,27 @@
 package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
+import com.google.common.collect.ImmutableList;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
+import static com.chess.engine.board.Move.*;
+
 public abstract class Piece {
+    public static final int NUM_CACHED_PIECES = BitBoards.NUM_ALLIANCES * BitBoards.NUM_PIECE_TYPES * BoardUtils.NUM_TILES * 2;
+
     protected final PieceType pieceType;
     protected final int piecePosition;
     protected final Alliance pieceAlliance;
     private final int cachedHashCode;
+    private final int cacheIndex;
     protected final boolean isFirstMove;
 
     Piece(final PieceType pieceType, final int piecePosition, final Alliance pieceAlliance, boolean isFirstMove) {
@@ -20,12 +30,25 @@ public abstract class Piece {
         this.pieceAlliance = pieceAlliance;
         this.isFirstMove = isFirstMove;
         this.cachedHashCode = computeHashCode();
+        this.cacheIndex = PieceCache.index(pieceType, pieceAlliance, piecePosition, isFirstMove);
+    }
+
+    public static Piece createPiece(final PieceType pieceType,
+                                    final Alliance pieceAlliance,
+                                    final int piecePosition,
+                                    final boolean isFirstMove) {
+        return PieceCache.PIECES[PieceCache.index(pieceType, pieceAlliance, piecePosition, isFirstMove)];
     }
 
     private int computeHashCode() {
        return Objects.hash(pieceType, piecePosition, pieceAlliance, isFirstMove);
     }
 
+    // position of this piece among the interned pieces, usable to index parallel caches
+    public int getCacheIndex() {
+        return this.cacheIndex;
+    }
+
     public Alliance getPieceAlliance() {
         return pieceAlliance;
     }
@@ -34,6 +57,22 @@ public abstract class Piece {
     }
     public abstract Collection<Move> calculateLegalMoves(final Board board);
     public abstract Piece movePiece(Move move);
+
+    protected Collection<Move> calculateMajorMoves(final Board board, final long attacks) {
+        final List<Move> legalMoves = new ArrayList<>(BitBoards.countSquares(attacks));
+        long destinations = attacks & ~board.getAllianceBitBoard(this.pieceAlliance);
+        while (destinations != BitBoards.EMPTY) {
+            final int candidateDestinationCoordinate = BitBoards.firstSquare(destinations);
+            final Piece pieceAtDestination = board.getPiece(candidateDestinationCoordinate);
+            if (pieceAtDestination == null) {
+                legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
+            } else {
+                legalMoves.add(new MajorAttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
+            }
+            destinations = BitBoards.clearFirstSquare(destinations);
+        }
+        return ImmutableList.copyOf(legalMoves);
+    }
     public Integer getPiecePosition() {
         return this.piecePosition;
     }
@@ -60,6 +99,51 @@ public abstract class Piece {
         return pieceType.getPieceValue();
     }
 
+    private static final class PieceCache {
+        private static final Piece[] PIECES = createAllPossiblePieces();
+
+        private static int index(final PieceType pieceType,
+                                 final Alliance pieceAlliance,
+                                 final int piecePosition,
+                                 final boolean isFirstMove) {
+            return (BitBoards.pieceIndex(pieceAlliance, pieceType) * BoardUtils.NUM_TILES + piecePosition) * 2
+                    + (isFirstMove ? 1 : 0);
+        }
+
+        private static Piece[] createAllPossiblePieces() {
+            final Piece[] pieces = new Piece[NUM_CACHED_PIECES];
+            for (final Alliance alliance : Alliance.values()) {
+                for (final PieceType pieceType : PieceType.values()) {
+                    for (int position = 0; position < BoardUtils.NUM_TILES; position++) {
+                        pieces[index(pieceType, alliance, position, true)] = newPiece(pieceType, alliance, position, true);
+                        pieces[index(pieceType, alliance, position, false)] = newPiece(pieceType, alliance, position, false);
+                    }
+                }
+            }
+            return pieces;
+        }
+
+        private static Piece newPiece(final PieceType pieceType,
+                                      final Alliance pieceAlliance,
+                                      final int piecePosition,
+                                      final boolean isFirstMove) {
+            switch (pieceType) {
+                case PAWN:
+                    return new Pawn(piecePosition, pieceAlliance, isFirstMove);
+                case KNIGHT:
+                    return new Knight(piecePosition, pieceAlliance, isFirstMove);
+                case BISHOP:
+                    return new Bishop(piecePosition, pieceAlliance, isFirstMove);
+                case ROOK:
+                    return new Rook(piecePosition, pieceAlliance, isFirstMove);
+                case QUEEN:
+                    return new Queen(piecePosition, pieceAlliance, isFirstMove);
+                default:
+                    return new King(piecePosition, pieceAlliance, isFirstMove);
+            }
+        }
+    }
+
     public enum PieceType {
         PAWN("P",100) {
             @Override
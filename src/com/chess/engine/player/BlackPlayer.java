@@ -3,22 +3,16 @@ package com.chess.engine.player;
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Tile;
 import com.chess.engine.pieces.Piece;
-import com.chess.engine.pieces.Rook;
-import com.google.common.collect.ImmutableList;
+import com.google.common.base.Supplier;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-
-import static com.chess.engine.board.Move.*;
 
 public class BlackPlayer extends Player {
 
 
-    public BlackPlayer(Board board, Collection<Move> whiteStandardLegalMoves, Collection<Move> blackStandardLegalMoves) {
-        super(board,blackStandardLegalMoves,whiteStandardLegalMoves);
+    public BlackPlayer(Board board, Supplier<Collection<Move>> blackLegalMoves) {
+        super(board, blackLegalMoves);
     }
 
     @Override
@@ -35,40 +29,4 @@ public class BlackPlayer extends Player {
     public Player getOpponent() {
         return this.board.whitePlayer();
     }
-
-    @Override
-    protected Collection<Move> calculateKingCastles
-            (Collection<Move> playerLegals, Collection<Move> opponentsLegals) {
-        final List<Move> kingCastles = new ArrayList<>();
-        if (this.playerKing.isFirstMove() && !this.isInCheck()) {
-            if (!this.board.getTile(5).isTileOccupied()
-                    && !this.board.getTile(6).isTileOccupied()) {
-
-                final Tile rookTile = this.board.getTile(7);
-                if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if(Player.calculateAttacksOnTile(5,opponentsLegals).isEmpty()
-                            && Player.calculateAttacksOnTile(6,opponentsLegals).isEmpty()
-                            && rookTile.getPiece().getPieceType().isRook()){
-                        kingCastles.add(new KingSideCastleMove(board,playerKing,6,
-                                (Rook) rookTile.getPiece(),rookTile.getTileCoordinate(),5));
-                    }
-                }
-            }
-            if (!this.board.getTile(1).isTileOccupied()
-                    && !this.board.getTile(2).isTileOccupied()
-                    && !this.board.getTile(3).isTileOccupied()) {
-
-                final Tile rookTile = this.board.getTile(0);
-                if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()
-                        && Player.calculateAttacksOnTile(2, opponentsLegals).isEmpty()
-                        && Player.calculateAttacksOnTile(3, opponentsLegals).isEmpty()
-                        && rookTile.getPiece().getPieceType().isRook()) {
-
-                    kingCastles.add(new QueenSideCastleMove(board, playerKing, 2,
-                            (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 3));
-                }
-            }
-        }
-        return ImmutableList.copyOf(kingCastles);
-    }
 }
@@ -1,81 +1,67 @@
 package com.chess.engine.player;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveIndex;
 import com.chess.engine.pieces.King;
 import com.chess.engine.pieces.Piece;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public abstract class Player {
 
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> legalMoves;
-    private final boolean isInCheck;
+    private final Supplier<Collection<Move>> legalMoves;
+    private final Supplier<MoveIndex> legalMoveIndex;
 
-    public Player(Board board, Collection<Move> legalMoves, Collection<Move> opponentMoves) {
+    public Player(Board board, Supplier<Collection<Move>> legalMoves) {
         this.board = board;
         this.playerKing = establishKing();
-        this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));
-        this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
+        this.legalMoves = Suppliers.memoize(legalMoves);
+        this.legalMoveIndex = Suppliers.memoize(() -> new MoveIndex(getLegalMoves()));
     }
 
     public Collection<Move> getLegalMoves() {
-        return this.legalMoves;
-    }
-    private Piece getPlayerKing() {
-        return this.playerKing;
-    }
-
-    protected static Collection<Move> calculateAttacksOnTile(int piecePosition, Collection<Move> moves) {
-        final List<Move> attackMoves = new ArrayList<>();
-        for (Move move : moves) {
-            if (piecePosition == move.getDestinationCoordinate()) {
-                attackMoves.add(move);
-            }
-        }
-        return ImmutableList.copyOf(attackMoves);
+        return this.legalMoves.get();
     }
 
     private King establishKing() {
-        for (Piece piece: getActivePieces()) {
-            if (piece.getPieceType().isKing()) {
-                return (King) piece;
-            }
+        final long kingBitBoard = this.board.getPieceBitBoard(getAlliance(), Piece.PieceType.KING);
+        if (kingBitBoard == BitBoards.EMPTY) {
+            throw new RuntimeException();
         }
-        throw new RuntimeException();
+        return (King) this.board.getPiece(BitBoards.firstSquare(kingBitBoard));
     }
 
     public boolean isMoveLegal(final Move move) {
-       return this.legalMoves.contains(move);
+       return this.legalMoveIndex.get().contains(move);
+    }
+
+    public Move findLegalMove(final int currentCoordinate,
+                              final int destinationCoordinate,
+                              final Piece.PieceType promotionType) {
+        return this.legalMoveIndex.get().get(currentCoordinate, destinationCoordinate, promotionType);
     }
 
     public boolean isInCheck() {
-        return this.isInCheck;
+        return BitBoards.isSet(this.board.getAttackedSquares(getAlliance().opposite()), this.playerKing.getPiecePosition());
     }
 
     public boolean isInCheckMate() {
-        return this.isInCheck && !hasEscapeMoves();
+        return isInCheck() && !hasEscapeMoves();
     }
 
     public boolean isInStaleMate() {
-        return !this.isInCheck && !hasEscapeMoves();
+        return !isInCheck() && !hasEscapeMoves();
     }
 
     protected boolean hasEscapeMoves() {
-        for (final Move move : this.legalMoves) {
-            final MoveTransition transition = makeMove(move);
-            if (transition.getMoveStatus().isDone()) {
-                return true;
-            }
-        }
-        return false;
+        return !this.legalMoves.get().isEmpty();
     }
 
     public boolean isCastled() {
@@ -85,23 +71,20 @@ public abstract class Player {
     public MoveTransition makeMove(final Move move) {
 
         if (!isMoveLegal(move)) {
-            return new MoveTransition(this.board,move, MoveStatus.ILLEGAL_MOVE);
+            return new MoveTransition(this.board, move,
+                    isPseudoLegal(move) ? MoveStatus.LEAVES_PLAYER_IN_CHECK : MoveStatus.ILLEGAL_MOVE);
         }
+        return new MoveTransition(move.execute(), move, MoveStatus.DONE);
+    }
 
-        final Board transitionBoard = move.execute();
-
-        final Collection<Move> kingAttacks = Player.calculateAttacksOnTile(
-                transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-                transitionBoard.currentPlayer().getLegalMoves());
-
-        if (!kingAttacks.isEmpty()) {
-            return new MoveTransition(this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
-        }
-        return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
+    private boolean isPseudoLegal(final Move move) {
+        final Piece movedPiece = move.getMovedPiece();
+        return movedPiece != null && movedPiece.getPieceAlliance() == getAlliance()
+                && movedPiece.equals(this.board.getPiece(movedPiece.getPiecePosition()))
+                && movedPiece.calculateLegalMoves(this.board).contains(move);
     }
 
     public abstract Collection<Piece> getActivePieces();
     public abstract Alliance getAlliance();
     public abstract Player getOpponent();
-    protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals, Collection<Move> opponentsLegals);
 }
@@ -3,22 +3,16 @@ package com.chess.engine.player;
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Tile;
 import com.chess.engine.pieces.Piece;
-import com.chess.engine.pieces.Rook;
-import com.google.common.collect.ImmutableList;
+import com.google.common.base.Supplier;
 import org.checkerframework.checker.units.qual.A;
 
 import javax.annotation.concurrent.Immutable;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-
-import static com.chess.engine.board.Move.*;
 
 public class WhitePlayer extends Player {
-    public WhitePlayer(Board board, Collection<Move> whiteStandardLegalMoves, Collection<Move> blackStandardLegalMoves) {
-        super(board,whiteStandardLegalMoves,blackStandardLegalMoves);
+    public WhitePlayer(Board board, Supplier<Collection<Move>> whiteLegalMoves) {
+        super(board, whiteLegalMoves);
     }
 
     @Override
@@ -35,40 +29,4 @@ public class WhitePlayer extends Player {
     public Player getOpponent() {
         return this.board.blackPlayer();
     }
-
-    @Override
-    protected Collection<Move> calculateKingCastles
-            (Collection<Move> playerLegals, Collection<Move> opponentsLegals) {
-        final List<Move> kingCastles = new ArrayList<>();
-        if (this.playerKing.isFirstMove() && !this.isInCheck()) {
-            if (!this.board.getTile(61).isTileOccupied()
-                    && !this.board.getTile(62).isTileOccupied()) {
-
-                final Tile rookTile = this.board.getTile(63);
-                if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if(Player.calculateAttacksOnTile(61,opponentsLegals).isEmpty()
-                    && Player.calculateAttacksOnTile(62,opponentsLegals).isEmpty()
-                    && rookTile.getPiece().getPieceType().isRook()){
-                        kingCastles.add(new KingSideCastleMove(board,playerKing,62,
-                                (Rook) rookTile.getPiece(),rookTile.getTileCoordinate(),61));
-                    }
-                }
-            }
-            if (!this.board.getTile(59).isTileOccupied()
-                    && !this.board.getTile(58).isTileOccupied()
-                    && !this.board.getTile(57).isTileOccupied()) {
-
-                final Tile rookTile = this.board.getTile(56);
-                if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()
-                        && Player.calculateAttacksOnTile(58, opponentsLegals).isEmpty()
-                        && Player.calculateAttacksOnTile(59, opponentsLegals).isEmpty()
-                        && rookTile.getPiece().getPieceType().isRook()) {
-
-                    kingCastles.add(new QueenSideCastleMove(board, playerKing, 58,
-                            (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 59));
-                }
-            }
-        }
-        return ImmutableList.copyOf(kingCastles);
-    }
 }
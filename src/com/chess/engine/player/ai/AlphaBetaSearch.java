@@ -0,0 +1,457 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.CompactMove;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AlphaBetaSearch implements MoveStrategy {
+    public static final int MATE_SCORE = 32000;
+    public static final int MATE_BOUND = MATE_SCORE - SearchLimits.MAX_DEPTH * 2;
+    static final int INFINITY = MATE_SCORE + 1;
+
+    // a node builds a whole Board and costs tens of microseconds, so reading the clock this often is free
+    // and keeps the overshoot of a time limit to about a millisecond
+    private static final int LIMIT_CHECK_INTERVAL = 16;
+    private static final int DEFAULT_TABLE_SIZE_IN_MEGABYTES = 16;
+
+    private static final int NULL_MOVE_MIN_DEPTH = 3;
+    private static final int NULL_MOVE_REDUCTION = 2;
+    private static final int NULL_MOVE_DEEP_REDUCTION = 3;
+    private static final int NULL_MOVE_DEEP_DEPTH = 7;
+    private static final int LATE_MOVE_MIN_DEPTH = 3;
+    private static final int LATE_MOVE_FIRST_RANK = 3;
+    private static final int LATE_MOVE_DEEP_RANK = 8;
+    private static final int REVERSE_FUTILITY_MAX_DEPTH = 3;
+    private static final int REVERSE_FUTILITY_MARGIN = 120;
+    private static final int[] FUTILITY_MARGINS = {0, 200, 500};
+    private static final int ASPIRATION_MIN_DEPTH = 4;
+    private static final int ASPIRATION_WINDOW = 25;
+
+    private final BoardEvaluator evaluator;
+    private final SearchLimits limits;
+    private final TranspositionTable transpositionTable;
+    private final SearchOptions options;
+    private final SearchStatistics statistics;
+    private final MoveOrdering moveOrdering;
+    private final PrincipalVariationTable principalVariationTable;
+    private final StaticExchangeEvaluator staticExchangeEvaluator;
+
+    private long nodes;
+    private long deadline;
+    private boolean aborted;
+    private boolean rootMoveRequired;
+    private int rootScore;
+    private AtomicBoolean stopSignal;
+    private AtomicLong sharedNodes;
+    private long reportedNodes;
+    private long otherThreadNodes;
+
+    public AlphaBetaSearch(final BoardEvaluator evaluator, final SearchLimits limits) {
+        this(evaluator, limits, new TranspositionTable(DEFAULT_TABLE_SIZE_IN_MEGABYTES));
+    }
+
+    public AlphaBetaSearch(final BoardEvaluator evaluator,
+                           final SearchLimits limits,
+                           final TranspositionTable transpositionTable) {
+        this(evaluator, limits, transpositionTable, SearchOptions.defaults());
+    }
+
+    public AlphaBetaSearch(final BoardEvaluator evaluator,
+                           final SearchLimits limits,
+                           final TranspositionTable transpositionTable,
+                           final SearchOptions options) {
+        this.evaluator = evaluator;
+        this.limits = limits;
+        this.transpositionTable = transpositionTable;
+        this.options = options;
+        this.statistics = new SearchStatistics();
+        this.moveOrdering = new MoveOrdering();
+        this.principalVariationTable = new PrincipalVariationTable();
+        this.staticExchangeEvaluator = new StaticExchangeEvaluator();
+    }
+
+    @Override
+    public SearchResult execute(final Board board) {
+        this.transpositionTable.newSearch();
+        return search(board, 1, new AtomicBoolean(), new AtomicLong());
+    }
+
+    // entry point for threads sharing a transposition table, which is aged once by the caller,
+    // and a node budget, which every thread counts against through sharedNodes
+    SearchResult search(final Board board,
+                        final int firstDepth,
+                        final AtomicBoolean stopSignal,
+                        final AtomicLong sharedNodes) {
+        final long start = System.currentTimeMillis();
+        this.nodes = 0;
+        this.reportedNodes = 0;
+        this.otherThreadNodes = 0;
+        this.aborted = false;
+        this.stopSignal = stopSignal;
+        this.sharedNodes = sharedNodes;
+        this.moveOrdering.newSearch();
+        this.statistics.clear();
+        this.deadline = this.limits.getMaxTimeMillis() == Long.MAX_VALUE ? Long.MAX_VALUE
+                : start + this.limits.getMaxTimeMillis();
+
+        final List<Move> rootMoves = orderRootMoves(board);
+        if (rootMoves.isEmpty()) {
+            final int score = board.currentPlayer().isInCheck() ? -MATE_SCORE : 0;
+            return new SearchResult(Move.NULL_MOVE, score, new ArrayList<>(), 0, 0,
+                    System.currentTimeMillis() - start, this.statistics.copy());
+        }
+
+        Move bestMove = rootMoves.get(0);
+        int bestScore = 0;
+        List<Move> principalVariation = new ArrayList<>();
+        int completedDepth = 0;
+        for (int depth = firstDepth; depth <= this.limits.getMaxDepth(); depth++) {
+            final int score = aspirationSearch(board, rootMoves, depth, bestScore);
+            if (this.aborted) {
+                // a root move that was fully searched and raised alpha in the unfinished iteration beats
+                // the last completed choice, which is always searched first
+                if (this.principalVariationTable.length() > 0) {
+                    bestMove = this.principalVariationTable.get(0);
+                    bestScore = this.rootScore;
+                    principalVariation = this.principalVariationTable.getPrincipalVariation();
+                }
+                break;
+            }
+            bestMove = this.principalVariationTable.get(0);
+            bestScore = score;
+            principalVariation = this.principalVariationTable.getPrincipalVariation();
+            completedDepth = depth;
+            this.transpositionTable.store(board.zobristKey(), CompactMove.fromMove(bestMove),
+                    scoreToTable(score, 0), depth, TranspositionTable.EXACT);
+            rootMoves.remove(bestMove);
+            rootMoves.add(0, bestMove);
+            if (Math.abs(score) >= MATE_BOUND) {
+                break;
+            }
+        }
+        return new SearchResult(bestMove, bestScore, principalVariation, completedDepth, this.nodes,
+                System.currentTimeMillis() - start, this.statistics.copy());
+    }
+
+    // the first iteration searches the moves in this order, so a search stopped early still ends on a likely move
+    private List<Move> orderRootMoves(final Board board) {
+        final long entry = this.transpositionTable.probe(board.zobristKey());
+        this.moveOrdering.order(board.currentPlayer().getLegalMoves(), 0,
+                entry == TranspositionTable.MISS ? CompactMove.NULL_MOVE : TranspositionTable.getMove(entry), false);
+        final List<Move> rootMoves = new ArrayList<>();
+        for (Move move = this.moveOrdering.next(0); move != null; move = this.moveOrdering.next(0)) {
+            rootMoves.add(move);
+        }
+        return rootMoves;
+    }
+
+    public PrincipalVariationTable getPrincipalVariationTable() {
+        return this.principalVariationTable;
+    }
+
+    // searches a narrow window around the previous score and widens the failing side until the score fits
+    private int aspirationSearch(final Board board, final List<Move> rootMoves, final int depth, final int previousScore) {
+        if (depth < ASPIRATION_MIN_DEPTH || Math.abs(previousScore) >= MATE_BOUND) {
+            return searchRoot(board, rootMoves, depth, -INFINITY, INFINITY);
+        }
+        int delta = ASPIRATION_WINDOW;
+        int alpha = previousScore - delta;
+        int beta = previousScore + delta;
+        while (true) {
+            final int score = searchRoot(board, rootMoves, depth, alpha, beta);
+            if (this.aborted) {
+                return 0;
+            }
+            if (score <= alpha) {
+                alpha = Math.max(score - delta, -INFINITY);
+            } else if (score >= beta) {
+                beta = Math.min(score + delta, INFINITY);
+            } else {
+                return score;
+            }
+            this.statistics.aspirationResearches++;
+            delta *= 2;
+        }
+    }
+
+    private int searchRoot(final Board board, final List<Move> rootMoves, final int depth, int alpha, final int beta) {
+        this.principalVariationTable.clear(0);
+        // the first iteration may not stop before it has scored a move, so there is always one to play
+        this.rootMoveRequired = depth == 1;
+        int bestScore = -INFINITY;
+        boolean firstMove = true;
+        for (final Move move : rootMoves) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                continue;
+            }
+            final int score = searchChild(transition.getTransitionBoard(), depth, alpha, beta, 0, firstMove, 0);
+            if (this.aborted) {
+                return 0;
+            }
+            firstMove = false;
+            this.rootMoveRequired = false;
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    this.rootScore = score;
+                    this.principalVariationTable.update(0, move);
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        return bestScore;
+    }
+
+    // principal variation search: the first move gets the full window, later moves a null window that
+    // is only widened when the move turns out to be better, after first undoing any reduction
+    private int searchChild(final Board child,
+                            final int depth,
+                            final int alpha,
+                            final int beta,
+                            final int ply,
+                            final boolean firstMove,
+                            final int reduction) {
+        if (firstMove) {
+            return -alphaBeta(child, depth - 1, -beta, -alpha, ply + 1, true);
+        }
+        int score = -alphaBeta(child, depth - 1 - reduction, -alpha - 1, -alpha, ply + 1, true);
+        if (!this.aborted && score > alpha && reduction > 0) {
+            this.statistics.lateMoveResearches++;
+            score = -alphaBeta(child, depth - 1, -alpha - 1, -alpha, ply + 1, true);
+        }
+        if (!this.aborted && score > alpha && score < beta) {
+            this.statistics.principalVariationResearches++;
+            score = -alphaBeta(child, depth - 1, -beta, -alpha, ply + 1, true);
+        }
+        return score;
+    }
+
+    private int alphaBeta(final Board board,
+                          final int depth,
+                          int alpha,
+                          final int beta,
+                          final int ply,
+                          final boolean allowNullMove) {
+        if (depth <= 0) {
+            return quiescence(board, alpha, beta, ply);
+        }
+        this.principalVariationTable.clear(ply);
+        if (shouldAbort()) {
+            return 0;
+        }
+        this.nodes++;
+        final Collection<Move> moves = board.currentPlayer().getLegalMoves();
+        final boolean inCheck = board.currentPlayer().isInCheck();
+        if (moves.isEmpty()) {
+            return inCheck ? -MATE_SCORE + ply : 0;
+        }
+        if (ply >= MoveOrdering.MAX_PLY) {
+            return this.evaluator.evaluate(board);
+        }
+
+        // cutoffs are left to null-window nodes so the principal variation is never cut short
+        final boolean pvNode = beta - alpha > 1;
+        final long key = board.zobristKey();
+        final long entry = this.transpositionTable.probe(key);
+        int hashMove = CompactMove.NULL_MOVE;
+        if (entry != TranspositionTable.MISS) {
+            if (!pvNode && TranspositionTable.getDepth(entry) >= depth) {
+                final int score = scoreFromTable(TranspositionTable.getScore(entry), ply);
+                final int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                    return score;
+                }
+            }
+            hashMove = TranspositionTable.getMove(entry);
+        }
+
+        final int staticScore = inCheck ? -INFINITY : this.evaluator.evaluate(board);
+        if (!pvNode && !inCheck && Math.abs(beta) < MATE_BOUND) {
+            if (this.options.isReverseFutilityPruning() && depth <= REVERSE_FUTILITY_MAX_DEPTH
+                    && staticScore - REVERSE_FUTILITY_MARGIN * depth >= beta) {
+                this.statistics.reverseFutilityPrunes++;
+                return staticScore;
+            }
+            // passing is only safe to test when the side to move has pieces to avoid zugzwang with
+            if (this.options.isNullMovePruning() && allowNullMove && depth >= NULL_MOVE_MIN_DEPTH
+                    && staticScore >= beta && hasNonPawnMaterial(board, board.currentPlayer().getAlliance())) {
+                final int reduction = depth >= NULL_MOVE_DEEP_DEPTH ? NULL_MOVE_DEEP_REDUCTION : NULL_MOVE_REDUCTION;
+                this.statistics.nullMoveSearches++;
+                final int score = -alphaBeta(board.createNullMoveBoard(), depth - 1 - reduction, -beta, -beta + 1,
+                        ply + 1, false);
+                if (this.aborted) {
+                    return 0;
+                }
+                if (score >= beta) {
+                    this.statistics.nullMoveCutoffs++;
+                    return score >= MATE_BOUND ? beta : score;
+                }
+            }
+        }
+        final boolean futile = this.options.isFutilityPruning() && !inCheck && depth < FUTILITY_MARGINS.length
+                && Math.abs(alpha) < MATE_BOUND && staticScore + FUTILITY_MARGINS[depth] <= alpha;
+
+        final int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        Move bestMove = null;
+        int movesSearched = 0;
+        this.moveOrdering.order(moves, ply, hashMove, false);
+        for (Move move = this.moveOrdering.next(ply); move != null; move = this.moveOrdering.next(ply)) {
+            final boolean isQuiet = MoveOrdering.isQuiet(move);
+            final boolean givesCheck = MoveGenerator.givesCheck(board, CompactMove.fromMove(move));
+            // checking moves are never pruned, a quiet check can still be mate; the rest are pruned unexecuted
+            if (futile && movesSearched > 0 && isQuiet && !givesCheck) {
+                this.statistics.futilityPrunes++;
+                continue;
+            }
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                continue;
+            }
+            final Board child = transition.getTransitionBoard();
+            int reduction = 0;
+            if (this.options.isLateMoveReductions() && depth >= LATE_MOVE_MIN_DEPTH && movesSearched >= LATE_MOVE_FIRST_RANK
+                    && isQuiet && !inCheck && !givesCheck) {
+                // later moves in the ordering are less likely to matter, so they get a shallower look
+                reduction = Math.min(movesSearched >= LATE_MOVE_DEEP_RANK ? 2 : 1, depth - 2);
+                this.statistics.lateMoveReductions++;
+            }
+            final int score = searchChild(child, depth, alpha, beta, ply, movesSearched == 0, reduction);
+            if (this.aborted) {
+                return 0;
+            }
+            movesSearched++;
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    this.principalVariationTable.update(ply, move);
+                    if (alpha >= beta) {
+                        this.moveOrdering.recordCutoff(move, ply, depth);
+                        break;
+                    }
+                }
+            }
+        }
+
+        final int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND
+                : bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+        this.transpositionTable.store(key, bound == TranspositionTable.UPPER_BOUND ? CompactMove.NULL_MOVE
+                : CompactMove.fromMove(bestMove), scoreToTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    private static boolean hasNonPawnMaterial(final Board board, final Alliance alliance) {
+        return (board.getPieceBitBoard(alliance, PieceType.KNIGHT) | board.getPieceBitBoard(alliance, PieceType.BISHOP)
+                | board.getPieceBitBoard(alliance, PieceType.ROOK) | board.getPieceBitBoard(alliance, PieceType.QUEEN))
+                != BitBoards.EMPTY;
+    }
+
+    // mate scores are stored relative to the node so they stay valid when reached at a different ply
+    static int scoreToTable(final int score, final int ply) {
+        if (score >= MATE_BOUND) {
+            return score + ply;
+        } else if (score <= -MATE_BOUND) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    static int scoreFromTable(final int score, final int ply) {
+        if (score >= MATE_BOUND) {
+            return score - ply;
+        } else if (score <= -MATE_BOUND) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    // resolves captures and promotions so leaves are only evaluated in quiet positions; all evasions are
+    // searched when in check and captures that lose material by static exchange are skipped unexecuted
+    private int quiescence(final Board board, int alpha, final int beta, final int ply) {
+        this.principalVariationTable.clear(ply);
+        if (shouldAbort()) {
+            return 0;
+        }
+        this.nodes++;
+        final Collection<Move> moves = board.currentPlayer().getLegalMoves();
+        final boolean inCheck = board.currentPlayer().isInCheck();
+        if (moves.isEmpty()) {
+            return inCheck ? -MATE_SCORE + ply : 0;
+        }
+        if (ply >= MoveOrdering.MAX_PLY) {
+            return this.evaluator.evaluate(board);
+        }
+        int bestScore = -INFINITY;
+        if (!inCheck) {
+            bestScore = this.evaluator.evaluate(board);
+            if (bestScore >= beta) {
+                return bestScore;
+            }
+            alpha = Math.max(alpha, bestScore);
+        }
+
+        this.moveOrdering.order(moves, ply, CompactMove.NULL_MOVE, !inCheck);
+        for (Move move = this.moveOrdering.next(ply); move != null; move = this.moveOrdering.next(ply)) {
+            if (!inCheck && move.isAttack() && this.staticExchangeEvaluator.evaluate(board, move) < 0) {
+                continue;
+            }
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                continue;
+            }
+            final int score = -quiescence(transition.getTransitionBoard(), -beta, -alpha, ply + 1);
+            if (this.aborted) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        return bestScore;
+    }
+
+    private boolean shouldAbort() {
+        if (this.aborted) {
+            return true;
+        }
+        if (this.nodes % LIMIT_CHECK_INTERVAL == 0) {
+            // nodes are published in batches so threads do not contend on the shared counter every node
+            final long totalNodes = this.sharedNodes.addAndGet(this.nodes - this.reportedNodes);
+            this.reportedNodes = this.nodes;
+            this.otherThreadNodes = totalNodes - this.nodes;
+            if (!this.rootMoveRequired && (this.stopSignal.get() || System.currentTimeMillis() >= this.deadline)) {
+                this.aborted = true;
+            }
+        }
+        if (!this.rootMoveRequired && this.otherThreadNodes + this.nodes >= this.limits.getMaxNodes()) {
+            this.aborted = true;
+            this.stopSignal.set(true);
+        }
+        return this.aborted;
+    }
+}
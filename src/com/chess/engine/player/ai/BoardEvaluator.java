@@ -0,0 +1,8 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+
+public interface BoardEvaluator {
+    // score in centipawns from the point of view of the player to move
+    int evaluate(Board board);
+}
@@ -0,0 +1,98 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class LazySmpSearch implements MoveStrategy {
+    private final TranspositionTable transpositionTable;
+    private final List<AlphaBetaSearch> searches;
+    private final ExecutorService helperPool;
+
+    // the evaluator is shared by all threads and must be thread safe
+    public LazySmpSearch(final BoardEvaluator evaluator,
+                         final SearchLimits limits,
+                         final TranspositionTable transpositionTable,
+                         final int threads) {
+        this(evaluator, limits, transpositionTable, SearchOptions.defaults(), threads);
+    }
+
+    public LazySmpSearch(final BoardEvaluator evaluator,
+                         final SearchLimits limits,
+                         final TranspositionTable transpositionTable,
+                         final SearchOptions options,
+                         final int threads) {
+        if (threads < 1) {
+            throw new RuntimeException("Search threads must be at least 1, was " + threads);
+        }
+        this.transpositionTable = transpositionTable;
+        this.searches = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            this.searches.add(new AlphaBetaSearch(evaluator, limits, transpositionTable, options));
+        }
+        // the main search runs on the calling thread, so a single thread search needs no pool
+        this.helperPool = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, runnable -> {
+            final Thread thread = new Thread(runnable, "lazy-smp-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getThreads() {
+        return this.searches.size();
+    }
+
+    @Override
+    public SearchResult execute(final Board board) {
+        final long start = System.currentTimeMillis();
+        this.transpositionTable.newSearch();
+        final AtomicBoolean stopSignal = new AtomicBoolean();
+        final AtomicLong sharedNodes = new AtomicLong();
+        final List<Future<SearchResult>> helpers = new ArrayList<>();
+        for (int i = 1; i < this.searches.size(); i++) {
+            final AlphaBetaSearch helper = this.searches.get(i);
+            // odd helpers start one ply deeper so the threads spread over neighbouring depths
+            final int firstDepth = 1 + i % 2;
+            helpers.add(this.helperPool.submit(() -> helper.search(board, firstDepth, stopSignal, sharedNodes)));
+        }
+        final SearchResult main;
+        try {
+            main = this.searches.get(0).search(board, 1, stopSignal, sharedNodes);
+        } finally {
+            stopSignal.set(true);
+        }
+        long nodes = main.getNodes();
+        final SearchStatistics statistics = main.getStatistics().copy();
+        for (final Future<SearchResult> helper : helpers) {
+            final SearchResult result = join(helper);
+            nodes += result.getNodes();
+            statistics.add(result.getStatistics());
+        }
+        return new SearchResult(main.getBestMove(), main.getScore(), main.getPrincipalVariation(),
+                main.getDepth(), nodes, System.currentTimeMillis() - start, statistics);
+    }
+
+    public void shutdown() {
+        if (this.helperPool != null) {
+            this.helperPool.shutdown();
+        }
+    }
+
+    private static SearchResult join(final Future<SearchResult> helper) {
+        try {
+            return helper.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a search helper", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("Search helper failed", e.getCause());
+        }
+    }
+}
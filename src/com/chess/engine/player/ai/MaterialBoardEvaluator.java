@@ -0,0 +1,26 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class MaterialBoardEvaluator implements BoardEvaluator {
+    private static final PieceType[] MATERIAL_TYPES = {
+            PieceType.PAWN, PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN
+    };
+
+    @Override
+    public int evaluate(final Board board) {
+        final Alliance alliance = board.currentPlayer().getAlliance();
+        return material(board, alliance) - material(board, alliance.opposite());
+    }
+
+    private static int material(final Board board, final Alliance alliance) {
+        int material = 0;
+        for (final PieceType pieceType : MATERIAL_TYPES) {
+            material += BitBoards.countSquares(board.getPieceBitBoard(alliance, pieceType)) * pieceType.getPieceValue();
+        }
+        return material;
+    }
+}
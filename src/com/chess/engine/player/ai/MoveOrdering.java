@@ -0,0 +1,134 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.CompactMove;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.PawnPromotion;
+import com.chess.engine.pieces.Piece;
+
+import java.util.Collection;
+
+final class MoveOrdering {
+    static final int MAX_PLY = SearchLimits.MAX_DEPTH * 2;
+
+    private static final int MAX_MOVES = 256;
+    private static final int INDEX_BITS = 8;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int KILLERS_PER_PLY = 2;
+
+    // score bands, highest first: hash move, captures and promotions, killers, quiet moves by history
+    private static final int HASH_MOVE_SCORE = 1 << 22;
+    private static final int CAPTURE_SCORE = 1 << 21;
+    private static final int KILLER_SCORE = 1 << 20;
+    private static final int MAX_HISTORY = KILLER_SCORE - 1;
+    private static final int VICTIM_WEIGHT = 16;
+    private static final int ATTACKER_DIVISOR = 100;
+
+    // each ply keeps its moves in generation order and selects from (score << 8 | index) keys,
+    // so only ints are ever swapped
+    private final Move[][] moves = new Move[MAX_PLY + 1][MAX_MOVES];
+    private final int[][] keys = new int[MAX_PLY + 1][MAX_MOVES];
+    private final int[] moveCounts = new int[MAX_PLY + 1];
+    private final int[] nextMoves = new int[MAX_PLY + 1];
+    private final int[][] killers = new int[MAX_PLY + 1][KILLERS_PER_PLY];
+    private final int[][] history = new int[BitBoards.NUM_ALLIANCES * BitBoards.NUM_PIECE_TYPES][BoardUtils.NUM_TILES];
+
+    void newSearch() {
+        for (final int[] plyKillers : this.killers) {
+            plyKillers[0] = CompactMove.NULL_MOVE;
+            plyKillers[1] = CompactMove.NULL_MOVE;
+        }
+        ageHistory();
+    }
+
+    void order(final Collection<Move> legalMoves, final int ply, final int hashMove, final boolean tacticalOnly) {
+        final Move[] plyMoves = this.moves[ply];
+        final int[] plyKeys = this.keys[ply];
+        int count = 0;
+        for (final Move move : legalMoves) {
+            if (tacticalOnly && isQuiet(move)) {
+                continue;
+            }
+            plyMoves[count] = move;
+            plyKeys[count] = score(move, ply, hashMove) << INDEX_BITS | count;
+            count++;
+        }
+        this.moveCounts[ply] = count;
+        this.nextMoves[ply] = 0;
+    }
+
+    Move next(final int ply) {
+        final int[] plyKeys = this.keys[ply];
+        final int next = this.nextMoves[ply];
+        final int count = this.moveCounts[ply];
+        if (next == count) {
+            return null;
+        }
+        int best = next;
+        for (int i = next + 1; i < count; i++) {
+            if (plyKeys[i] > plyKeys[best]) {
+                best = i;
+            }
+        }
+        final int key = plyKeys[best];
+        plyKeys[best] = plyKeys[next];
+        plyKeys[next] = key;
+        this.nextMoves[ply] = next + 1;
+        return this.moves[ply][key & INDEX_MASK];
+    }
+
+    void recordCutoff(final Move move, final int ply, final int depth) {
+        if (!isQuiet(move)) {
+            return;
+        }
+        final int compactMove = CompactMove.fromMove(move);
+        final int[] plyKillers = this.killers[ply];
+        if (plyKillers[0] != compactMove) {
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = compactMove;
+        }
+        final int[] pieceHistory = this.history[pieceIndex(move.getMovedPiece())];
+        pieceHistory[move.getDestinationCoordinate()] += depth * depth;
+        if (pieceHistory[move.getDestinationCoordinate()] > MAX_HISTORY) {
+            ageHistory();
+        }
+    }
+
+    static boolean isQuiet(final Move move) {
+        return !move.isAttack() && !(move instanceof PawnPromotion);
+    }
+
+    private int score(final Move move, final int ply, final int hashMove) {
+        final int compactMove = CompactMove.fromMove(move);
+        if (compactMove == hashMove) {
+            return HASH_MOVE_SCORE;
+        }
+        if (!isQuiet(move)) {
+            // most valuable victim first, least valuable attacker breaks ties
+            int gain = move.isAttack() ? move.getAttackedPiece().getPieceValue() : 0;
+            if (move instanceof PawnPromotion) {
+                gain += ((PawnPromotion) move).getPromotionType().getPieceValue();
+            }
+            return CAPTURE_SCORE + gain * VICTIM_WEIGHT - move.getMovedPiece().getPieceValue() / ATTACKER_DIVISOR;
+        }
+        if (compactMove == this.killers[ply][0]) {
+            return KILLER_SCORE + 1;
+        } else if (compactMove == this.killers[ply][1]) {
+            return KILLER_SCORE;
+        }
+        return this.history[pieceIndex(move.getMovedPiece())][move.getDestinationCoordinate()];
+    }
+
+    private void ageHistory() {
+        for (final int[] pieceHistory : this.history) {
+            for (int square = 0; square < pieceHistory.length; square++) {
+                pieceHistory[square] >>= 1;
+            }
+        }
+    }
+
+    private static int pieceIndex(final Piece piece) {
+        return BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType());
+    }
+}
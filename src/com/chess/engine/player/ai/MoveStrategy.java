@@ -0,0 +1,7 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+
+public interface MoveStrategy {
+    SearchResult execute(Board board);
+}
@@ -0,0 +1,68 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PawnHashTable {
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final long VALID_ENTRY = 1L << Integer.SIZE;
+    private static final long SCORE_MASK = 0xFFFFFFFFL;
+
+    // shared by threads using the same evaluator through the lockless scheme described in PerftHashTable
+    private final long[] table;
+    private final long entryMask;
+    private final LongAdder probes;
+    private final LongAdder hits;
+
+    public PawnHashTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes < 1 || sizeInMegabytes > 1024) {
+            throw new RuntimeException("Pawn hash size must be between 1 and 1024 MB, was " + sizeInMegabytes);
+        }
+        final long entries = Long.highestOneBit((long) sizeInMegabytes * 1024 * 1024 / (LONGS_PER_ENTRY * Long.BYTES));
+        this.table = new long[(int) (entries * LONGS_PER_ENTRY)];
+        this.entryMask = entries - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    // packed middlegame and endgame pawn structure score, white positive
+    public int score(final Board board) {
+        final long key = board.pawnKey();
+        final int index = (int) (key & this.entryMask) * LONGS_PER_ENTRY;
+        this.probes.increment();
+        final long data = this.table[index + 1];
+        if ((this.table[index] ^ data) == key && (data & VALID_ENTRY) != 0) {
+            this.hits.increment();
+            return (int) data;
+        }
+        final int score = PawnStructure.evaluate(board.getPieceBitBoard(Alliance.WHITE, PieceType.PAWN),
+                board.getPieceBitBoard(Alliance.BLACK, PieceType.PAWN));
+        final long newData = (score & SCORE_MASK) | VALID_ENTRY;
+        this.table[index] = key ^ newData;
+        this.table[index + 1] = newData;
+        return score;
+    }
+
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public double getHitRate() {
+        final long probes = getProbes();
+        return probes == 0 ? 0 : (double) getHits() / probes;
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.probes.reset();
+        this.hits.reset();
+    }
+}
@@ -0,0 +1,100 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.LeaperBitBoards;
+import com.chess.engine.board.PieceSquareTables;
+
+final class PawnStructure {
+    private static final int DOUBLED_MIDDLEGAME = -10;
+    private static final int DOUBLED_ENDGAME = -25;
+    private static final int ISOLATED_MIDDLEGAME = -12;
+    private static final int ISOLATED_ENDGAME = -15;
+    private static final int BACKWARD_MIDDLEGAME = -10;
+    private static final int BACKWARD_ENDGAME = -10;
+    // indexed by rank counted from the pawn's own side
+    private static final int[] PASSED_MIDDLEGAME = {0, 5, 10, 15, 25, 45, 70, 0};
+    private static final int[] PASSED_ENDGAME = {0, 10, 20, 35, 60, 100, 150, 0};
+
+    private static final long[] FILE_MASKS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    private static final long[] ADJACENT_FILE_MASKS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    // squares ahead of a pawn on its own and adjacent files
+    private static final long[][] PASSED_MASKS = new long[BitBoards.NUM_ALLIANCES][BoardUtils.NUM_TILES];
+    // squares level with or behind a pawn on the adjacent files, from where it could be supported
+    private static final long[][] SUPPORT_MASKS = new long[BitBoards.NUM_ALLIANCES][BoardUtils.NUM_TILES];
+
+    static {
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            FILE_MASKS[file(square)] |= BitBoards.squareMask(square);
+        }
+        for (int file = 0; file < BoardUtils.NUM_TILES_PER_ROW; file++) {
+            ADJACENT_FILE_MASKS[file] = (file > 0 ? FILE_MASKS[file - 1] : BitBoards.EMPTY)
+                    | (file < BoardUtils.NUM_TILES_PER_ROW - 1 ? FILE_MASKS[file + 1] : BitBoards.EMPTY);
+        }
+        for (final Alliance alliance : Alliance.values()) {
+            for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+                final long files = FILE_MASKS[file(square)] | ADJACENT_FILE_MASKS[file(square)];
+                for (int other = 0; other < BoardUtils.NUM_TILES; other++) {
+                    final int rowsAhead = (row(other) - row(square)) * alliance.getDirection();
+                    if (rowsAhead > 0) {
+                        PASSED_MASKS[alliance.ordinal()][square] |= files & BitBoards.squareMask(other);
+                    } else {
+                        SUPPORT_MASKS[alliance.ordinal()][square] |= ADJACENT_FILE_MASKS[file(square)] & BitBoards.squareMask(other);
+                    }
+                }
+            }
+        }
+    }
+
+    private PawnStructure() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    // packed middlegame and endgame score, white positive
+    static int evaluate(final long whitePawns, final long blackPawns) {
+        return evaluate(Alliance.WHITE, whitePawns, blackPawns) - evaluate(Alliance.BLACK, blackPawns, whitePawns);
+    }
+
+    private static int evaluate(final Alliance alliance, final long pawns, final long enemyPawns) {
+        int middlegame = 0;
+        int endgame = 0;
+        for (int file = 0; file < BoardUtils.NUM_TILES_PER_ROW; file++) {
+            final int pawnsOnFile = BitBoards.countSquares(pawns & FILE_MASKS[file]);
+            if (pawnsOnFile > 1) {
+                middlegame += DOUBLED_MIDDLEGAME * (pawnsOnFile - 1);
+                endgame += DOUBLED_ENDGAME * (pawnsOnFile - 1);
+            }
+        }
+        long remaining = pawns;
+        while (remaining != BitBoards.EMPTY) {
+            final int square = BitBoards.firstSquare(remaining);
+            remaining = BitBoards.clearFirstSquare(remaining);
+            if ((PASSED_MASKS[alliance.ordinal()][square] & enemyPawns) == BitBoards.EMPTY) {
+                final int rank = alliance.isWhite() ? BoardUtils.NUM_TILES_PER_ROW - 1 - row(square) : row(square);
+                middlegame += PASSED_MIDDLEGAME[rank];
+                endgame += PASSED_ENDGAME[rank];
+            }
+            if ((ADJACENT_FILE_MASKS[file(square)] & pawns) == BitBoards.EMPTY) {
+                middlegame += ISOLATED_MIDDLEGAME;
+                endgame += ISOLATED_ENDGAME;
+            } else if ((SUPPORT_MASKS[alliance.ordinal()][square] & pawns) == BitBoards.EMPTY) {
+                final int stopSquare = square + alliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+                if (stopSquare >= 0 && stopSquare < BoardUtils.NUM_TILES
+                        && (LeaperBitBoards.pawnAttacks(alliance, stopSquare) & enemyPawns) != BitBoards.EMPTY) {
+                    middlegame += BACKWARD_MIDDLEGAME;
+                    endgame += BACKWARD_ENDGAME;
+                }
+            }
+        }
+        return PieceSquareTables.pack(middlegame, endgame);
+    }
+
+    private static int file(final int square) {
+        return square % BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    private static int row(final int square) {
+        return square / BoardUtils.NUM_TILES_PER_ROW;
+    }
+}
@@ -0,0 +1,33 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.PieceSquareTables;
+
+// reads the material and piece-square sums the board carries through move execution, adds the cached
+// pawn structure terms and blends the middlegame and endgame values by the remaining non-pawn material
+public final class PieceSquareBoardEvaluator implements BoardEvaluator {
+    private static final int DEFAULT_PAWN_HASH_MEGABYTES = 1;
+
+    private final PawnHashTable pawnHashTable;
+
+    public PieceSquareBoardEvaluator() {
+        this(new PawnHashTable(DEFAULT_PAWN_HASH_MEGABYTES));
+    }
+
+    public PieceSquareBoardEvaluator(final PawnHashTable pawnHashTable) {
+        this.pawnHashTable = pawnHashTable;
+    }
+
+    public PawnHashTable getPawnHashTable() {
+        return this.pawnHashTable;
+    }
+
+    @Override
+    public int evaluate(final Board board) {
+        final int packedScore = board.getPieceSquareScore() + this.pawnHashTable.score(board);
+        final int phase = Math.min(board.getGamePhase(), PieceSquareTables.MAX_PHASE);
+        final int score = (PieceSquareTables.middlegame(packedScore) * phase
+                + PieceSquareTables.endgame(packedScore) * (PieceSquareTables.MAX_PHASE - phase)) / PieceSquareTables.MAX_PHASE;
+        return board.currentPlayer().getAlliance().isWhite() ? score : -score;
+    }
+}
@@ -0,0 +1,46 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// triangular table: row ply holds the best line found from that ply, so a new best move at a ply
+// only has to be prefixed to the row below it
+public final class PrincipalVariationTable {
+    private final Move[][] lines = new Move[MoveOrdering.MAX_PLY + 1][MoveOrdering.MAX_PLY + 1];
+    private final int[] lengths = new int[MoveOrdering.MAX_PLY + 2];
+
+    void clear(final int ply) {
+        this.lengths[ply] = ply;
+    }
+
+    void update(final int ply, final Move move) {
+        final Move[] line = this.lines[ply];
+        line[ply] = move;
+        final int childLength = this.lengths[ply + 1];
+        if (childLength > ply + 1) {
+            System.arraycopy(this.lines[ply + 1], ply + 1, line, ply + 1, childLength - ply - 1);
+        }
+        this.lengths[ply] = Math.max(childLength, ply + 1);
+    }
+
+    public int length() {
+        return this.lengths[0];
+    }
+
+    public Move get(final int index) {
+        if (index < 0 || index >= this.lengths[0]) {
+            throw new RuntimeException("No principal variation move at " + index);
+        }
+        return this.lines[0][index];
+    }
+
+    public List<Move> getPrincipalVariation() {
+        final List<Move> principalVariation = new ArrayList<>(this.lengths[0]);
+        for (int i = 0; i < this.lengths[0]; i++) {
+            principalVariation.add(this.lines[0][i]);
+        }
+        return principalVariation;
+    }
+}
@@ -0,0 +1,68 @@
+package com.chess.engine.player.ai;
+
+public final class SearchLimits {
+    public static final int MAX_DEPTH = 64;
+
+    private final int maxDepth;
+    private final long maxNodes;
+    private final long maxTimeMillis;
+
+    private SearchLimits(final Builder builder) {
+        this.maxDepth = builder.maxDepth;
+        this.maxNodes = builder.maxNodes;
+        this.maxTimeMillis = builder.maxTimeMillis;
+    }
+
+    public static SearchLimits depth(final int maxDepth) {
+        return new Builder().setMaxDepth(maxDepth).build();
+    }
+
+    public static SearchLimits time(final long maxTimeMillis) {
+        return new Builder().setMaxTimeMillis(maxTimeMillis).build();
+    }
+
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    public long getMaxNodes() {
+        return this.maxNodes;
+    }
+
+    public long getMaxTimeMillis() {
+        return this.maxTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + this.maxDepth + ", nodes " + this.maxNodes + ", time " + this.maxTimeMillis + " ms";
+    }
+
+    public static class Builder {
+        int maxDepth = MAX_DEPTH;
+        long maxNodes = Long.MAX_VALUE;
+        long maxTimeMillis = Long.MAX_VALUE;
+
+        public Builder setMaxDepth(final int maxDepth) {
+            if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+                throw new RuntimeException("Search depth must be between 1 and " + MAX_DEPTH + ", was " + maxDepth);
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public Builder setMaxNodes(final long maxNodes) {
+            this.maxNodes = maxNodes;
+            return this;
+        }
+
+        public Builder setMaxTimeMillis(final long maxTimeMillis) {
+            this.maxTimeMillis = maxTimeMillis;
+            return this;
+        }
+
+        public SearchLimits build() {
+            return new SearchLimits(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.chess.engine.player.ai;
+
+public final class SearchOptions {
+    private final boolean nullMovePruning;
+    private final boolean lateMoveReductions;
+    private final boolean futilityPruning;
+    private final boolean reverseFutilityPruning;
+
+    private SearchOptions(final Builder builder) {
+        this.nullMovePruning = builder.nullMovePruning;
+        this.lateMoveReductions = builder.lateMoveReductions;
+        this.futilityPruning = builder.futilityPruning;
+        this.reverseFutilityPruning = builder.reverseFutilityPruning;
+    }
+
+    public static SearchOptions defaults() {
+        return new Builder().build();
+    }
+
+    public boolean isNullMovePruning() {
+        return this.nullMovePruning;
+    }
+
+    public boolean isLateMoveReductions() {
+        return this.lateMoveReductions;
+    }
+
+    public boolean isFutilityPruning() {
+        return this.futilityPruning;
+    }
+
+    public boolean isReverseFutilityPruning() {
+        return this.reverseFutilityPruning;
+    }
+
+    @Override
+    public String toString() {
+        return "null move " + this.nullMovePruning + ", late move reductions " + this.lateMoveReductions
+                + ", futility " + this.futilityPruning + ", reverse futility " + this.reverseFutilityPruning;
+    }
+
+    public static class Builder {
+        boolean nullMovePruning = true;
+        boolean lateMoveReductions = true;
+        boolean futilityPruning = true;
+        boolean reverseFutilityPruning = true;
+
+        public Builder setNullMovePruning(final boolean nullMovePruning) {
+            this.nullMovePruning = nullMovePruning;
+            return this;
+        }
+
+        public Builder setLateMoveReductions(final boolean lateMoveReductions) {
+            this.lateMoveReductions = lateMoveReductions;
+            return this;
+        }
+
+        public Builder setFutilityPruning(final boolean futilityPruning) {
+            this.futilityPruning = futilityPruning;
+            return this;
+        }
+
+        public Builder setReverseFutilityPruning(final boolean reverseFutilityPruning) {
+            this.reverseFutilityPruning = reverseFutilityPruning;
+            return this;
+        }
+
+        public SearchOptions build() {
+            return new SearchOptions(this);
+        }
+    }
+}
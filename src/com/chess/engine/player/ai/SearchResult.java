@@ -0,0 +1,75 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.CompactMove;
+import com.chess.engine.board.Move;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+public final class SearchResult {
+    private final Move bestMove;
+    private final int score;
+    private final List<Move> principalVariation;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedMillis;
+    private final SearchStatistics statistics;
+
+    SearchResult(final Move bestMove,
+                 final int score,
+                 final List<Move> principalVariation,
+                 final int depth,
+                 final long nodes,
+                 final long elapsedMillis,
+                 final SearchStatistics statistics) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.principalVariation = ImmutableList.copyOf(principalVariation);
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+        this.statistics = statistics;
+    }
+
+    public Move getBestMove() {
+        return this.bestMove;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    public SearchStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    public long getNodesPerSecond() {
+        return this.elapsedMillis == 0 ? 0 : this.nodes * 1000 / this.elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder pv = new StringBuilder();
+        for (final Move move : this.principalVariation) {
+            pv.append(' ').append(CompactMove.toString(CompactMove.fromMove(move)));
+        }
+        return String.format("depth %d score %d nodes %d time %d nps %d pv%s",
+                this.depth, this.score, this.nodes, this.elapsedMillis, getNodesPerSecond(), pv);
+    }
+}
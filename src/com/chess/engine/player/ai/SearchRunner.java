@@ -0,0 +1,123 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+
+public final class SearchRunner {
+    private static final String[] SCALING_POSITIONS = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r1bq1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N1PN2/PP1B1PPP/R2QKB1R w KQ - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+    };
+    private static final int DEFAULT_HASH_MEGABYTES = 64;
+
+    private SearchRunner() {
+        throw new RuntimeException("You cannot instantiate this class");
+    }
+
+    public static void main(final String[] args) {
+        if (args.length < 1) {
+            System.out.println("usage: SearchRunner <depth> [--threads <n>] [--hash <mb>] [--fen <fen>] [--scaling]"
+                    + " [--no-null-move] [--no-reductions] [--no-futility] [--no-reverse-futility]");
+            return;
+        }
+        final int depth = Integer.parseInt(args[0]);
+        boolean printScaling = false;
+        int threads = 1;
+        int hashMegabytes = DEFAULT_HASH_MEGABYTES;
+        String fen = SCALING_POSITIONS[0];
+        final SearchOptions.Builder options = new SearchOptions.Builder();
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--scaling":
+                    printScaling = true;
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--hash":
+                    hashMegabytes = Integer.parseInt(args[++i]);
+                    break;
+                case "--fen":
+                    fen = args[++i];
+                    break;
+                case "--no-null-move":
+                    options.setNullMovePruning(false);
+                    break;
+                case "--no-reductions":
+                    options.setLateMoveReductions(false);
+                    break;
+                case "--no-futility":
+                    options.setFutilityPruning(false);
+                    break;
+                case "--no-reverse-futility":
+                    options.setReverseFutilityPruning(false);
+                    break;
+                default:
+                    throw new RuntimeException("Unknown search option " + args[i]);
+            }
+        }
+        final TranspositionTable transpositionTable = new TranspositionTable(hashMegabytes);
+        if (printScaling) {
+            printScalingReport(depth, threads, transpositionTable, options.build());
+            return;
+        }
+        final PieceSquareBoardEvaluator evaluator = new PieceSquareBoardEvaluator();
+        final LazySmpSearch search = new LazySmpSearch(evaluator,
+                SearchLimits.depth(depth), transpositionTable, options.build(), threads);
+        final SearchResult result = search.execute(FenUtilities.createGameFromFEN(fen));
+        System.out.println(result);
+        System.out.println(result.getStatistics());
+        System.out.printf("hash %d MB, %.1f%% full%n", transpositionTable.getSizeInBytes() / (1024 * 1024),
+                transpositionTable.hashFull() / 10.0);
+        final PawnHashTable pawnHashTable = evaluator.getPawnHashTable();
+        System.out.printf("pawn hash %d/%d hits (%.1f%%)%n", pawnHashTable.getHits(), pawnHashTable.getProbes(),
+                100 * pawnHashTable.getHitRate());
+        search.shutdown();
+    }
+
+    // time to depth summed over a fixed set of positions, each searched from an empty table
+    private static void printScalingReport(final int depth,
+                                           final int maxThreads,
+                                           final TranspositionTable transpositionTable,
+                                           final SearchOptions options) {
+        final Board[] boards = new Board[SCALING_POSITIONS.length];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = FenUtilities.createGameFromFEN(SCALING_POSITIONS[i]);
+        }
+        searchAll(boards, depth, 1, transpositionTable, options);
+        System.out.printf("%-10s %14s %10s %14s %8s %10s%n", "threads", "nodes", "ms", "nodes/s", "speedup", "efficiency");
+        long singleThreadMillis = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            final long start = System.currentTimeMillis();
+            final long nodes = searchAll(boards, depth, threads, transpositionTable, options);
+            final long elapsed = Math.max(1, System.currentTimeMillis() - start);
+            if (threads == 1) {
+                singleThreadMillis = elapsed;
+            }
+            final double speedup = (double) singleThreadMillis / elapsed;
+            System.out.printf("%-10d %14d %10d %14d %8.2f %9.0f%%%n", threads,
+                    nodes, elapsed, nodes * 1000 / elapsed, speedup, 100 * speedup / threads);
+            if (threads == maxThreads) {
+                break;
+            }
+        }
+    }
+
+    private static long searchAll(final Board[] boards,
+                                  final int depth,
+                                  final int threads,
+                                  final TranspositionTable transpositionTable,
+                                  final SearchOptions options) {
+        final LazySmpSearch search = new LazySmpSearch(new PieceSquareBoardEvaluator(),
+                SearchLimits.depth(depth), transpositionTable, options, threads);
+        long nodes = 0;
+        for (final Board board : boards) {
+            transpositionTable.clear();
+            nodes += search.execute(board).getNodes();
+        }
+        search.shutdown();
+        return nodes;
+    }
+}
@@ -0,0 +1,80 @@
+package com.chess.engine.player.ai;
+
+public final class SearchStatistics {
+    long nullMoveSearches;
+    long nullMoveCutoffs;
+    long lateMoveReductions;
+    long lateMoveResearches;
+    long futilityPrunes;
+    long reverseFutilityPrunes;
+    long principalVariationResearches;
+    long aspirationResearches;
+
+    void clear() {
+        this.nullMoveSearches = 0;
+        this.nullMoveCutoffs = 0;
+        this.lateMoveReductions = 0;
+        this.lateMoveResearches = 0;
+        this.futilityPrunes = 0;
+        this.reverseFutilityPrunes = 0;
+        this.principalVariationResearches = 0;
+        this.aspirationResearches = 0;
+    }
+
+    SearchStatistics copy() {
+        return new SearchStatistics().add(this);
+    }
+
+    SearchStatistics add(final SearchStatistics other) {
+        this.nullMoveSearches += other.nullMoveSearches;
+        this.nullMoveCutoffs += other.nullMoveCutoffs;
+        this.lateMoveReductions += other.lateMoveReductions;
+        this.lateMoveResearches += other.lateMoveResearches;
+        this.futilityPrunes += other.futilityPrunes;
+        this.reverseFutilityPrunes += other.reverseFutilityPrunes;
+        this.principalVariationResearches += other.principalVariationResearches;
+        this.aspirationResearches += other.aspirationResearches;
+        return this;
+    }
+
+    public long getNullMoveSearches() {
+        return this.nullMoveSearches;
+    }
+
+    public long getNullMoveCutoffs() {
+        return this.nullMoveCutoffs;
+    }
+
+    public long getLateMoveReductions() {
+        return this.lateMoveReductions;
+    }
+
+    public long getLateMoveResearches() {
+        return this.lateMoveResearches;
+    }
+
+    public long getFutilityPrunes() {
+        return this.futilityPrunes;
+    }
+
+    public long getReverseFutilityPrunes() {
+        return this.reverseFutilityPrunes;
+    }
+
+    public long getPrincipalVariationResearches() {
+        return this.principalVariationResearches;
+    }
+
+    public long getAspirationResearches() {
+        return this.aspirationResearches;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("null move %d/%d cutoffs, reductions %d (%d re-searched), futility %d, reverse futility %d,"
+                        + " pvs re-searches %d, aspiration re-searches %d",
+                this.nullMoveCutoffs, this.nullMoveSearches, this.lateMoveReductions, this.lateMoveResearches,
+                this.futilityPrunes, this.reverseFutilityPrunes, this.principalVariationResearches,
+                this.aspirationResearches);
+    }
+}
@@ -0,0 +1,75 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.PawnPromotion;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class StaticExchangeEvaluator {
+    private static final int MAX_EXCHANGES = 32;
+    private static final PieceType[] ATTACKER_ORDER = PieceType.values();
+
+    private final int[] gains = new int[MAX_EXCHANGES];
+
+    // material balance for the moving side after the best sequence of recaptures on the destination
+    // square, worked out on bitboards without executing any move; x-ray attackers join as pieces leave
+    public int evaluate(final Board board, final Move move) {
+        final int square = move.getDestinationCoordinate();
+        final boolean isPromotion = move instanceof PawnPromotion;
+        long occupied = board.getOccupiedBitBoard() & ~BitBoards.squareMask(move.getCurrentCoordinate());
+        int capturedValue = 0;
+        if (move.isAttack()) {
+            capturedValue = move.getAttackedPiece().getPieceValue();
+            occupied &= ~BitBoards.squareMask(move.getAttackedPiece().getPiecePosition());
+        }
+        int attackerValue = move.getMovedPiece().getPieceValue();
+        if (isPromotion) {
+            final int promotionValue = ((PawnPromotion) move).getPromotionType().getPieceValue();
+            capturedValue += promotionValue - attackerValue;
+            attackerValue = promotionValue;
+        }
+
+        this.gains[0] = capturedValue;
+        Alliance side = move.getMovedPiece().getPieceAlliance().opposite();
+        long attackers = allAttackers(board, square, occupied);
+        int exchange = 0;
+        while (exchange < MAX_EXCHANGES - 1) {
+            final long sideAttackers = attackers & board.getAllianceBitBoard(side);
+            if (sideAttackers == BitBoards.EMPTY) {
+                break;
+            }
+            PieceType attackerType = null;
+            long attacker = BitBoards.EMPTY;
+            for (final PieceType pieceType : ATTACKER_ORDER) {
+                attacker = sideAttackers & board.getPieceBitBoard(side, pieceType);
+                if (attacker != BitBoards.EMPTY) {
+                    attackerType = pieceType;
+                    break;
+                }
+            }
+            // the king may only recapture when the square is no longer defended
+            if (attackerType == PieceType.KING && (attackers & board.getAllianceBitBoard(side.opposite())) != BitBoards.EMPTY) {
+                break;
+            }
+            exchange++;
+            this.gains[exchange] = attackerValue - this.gains[exchange - 1];
+            attackerValue = attackerType.getPieceValue();
+            occupied &= ~(attacker & -attacker);
+            attackers = allAttackers(board, square, occupied);
+            side = side.opposite();
+        }
+        while (exchange > 0) {
+            this.gains[exchange - 1] = -Math.max(-this.gains[exchange - 1], this.gains[exchange]);
+            exchange--;
+        }
+        return this.gains[0];
+    }
+
+    private static long allAttackers(final Board board, final int square, final long occupied) {
+        return (MoveGenerator.attackersOf(board, square, Alliance.WHITE, occupied)
+                | MoveGenerator.attackersOf(board, square, Alliance.BLACK, occupied)) & occupied;
+    }
+}
@@ -0,0 +1,151 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.CompactMove;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class TranspositionTable {
+    public static final long MISS = 0L;
+
+    public static final int UPPER_BOUND = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int EXACT = 3;
+
+    private static final int MAX_SIZE_IN_MEGABYTES = 1024;
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int ENTRIES_PER_BUCKET = 4;
+    private static final int BYTES_PER_BUCKET = BYTES_PER_ENTRY * ENTRIES_PER_BUCKET;
+
+    // data layout: move (16) | score (16) | depth (8) | bound (2) | age (6)
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int AGE_SHIFT = 42;
+    private static final long MOVE_MASK = 0xFFFFL;
+    private static final long SCORE_MASK = 0xFFFFL;
+    private static final long DEPTH_MASK = 0xFFL;
+    private static final long BOUND_MASK = 0x3L;
+    private static final int AGE_MASK = 0x3F;
+    private static final int AGE_WEIGHT = 8;
+
+    // off heap so large tables do not count against the java heap; entries use the lockless
+    // (key ^ data, data) scheme described in PerftHashTable
+    private final ByteBuffer table;
+    private final long bucketMask;
+    private volatile int age;
+
+    public TranspositionTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes < 1 || sizeInMegabytes > MAX_SIZE_IN_MEGABYTES) {
+            throw new RuntimeException("Transposition table size must be between 1 and " + MAX_SIZE_IN_MEGABYTES
+                    + " MB, was " + sizeInMegabytes);
+        }
+        final long buckets = Long.highestOneBit((long) sizeInMegabytes * 1024 * 1024 / BYTES_PER_BUCKET);
+        this.table = ByteBuffer.allocateDirect((int) (buckets * BYTES_PER_BUCKET)).order(ByteOrder.nativeOrder());
+        this.bucketMask = buckets - 1;
+    }
+
+    public long probe(final long key) {
+        final int bucket = bucketOffset(key);
+        for (int entry = bucket; entry < bucket + BYTES_PER_BUCKET; entry += BYTES_PER_ENTRY) {
+            final long data = this.table.getLong(entry + Long.BYTES);
+            if ((this.table.getLong(entry) ^ data) == key && data != MISS) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    public void store(final long key, final int move, final int score, final int depth, final int bound) {
+        final int bucket = bucketOffset(key);
+        final int currentAge = this.age;
+        int replace = bucket;
+        int replaceWorth = Integer.MAX_VALUE;
+        for (int entry = bucket; entry < bucket + BYTES_PER_BUCKET; entry += BYTES_PER_ENTRY) {
+            final long data = this.table.getLong(entry + Long.BYTES);
+            if ((this.table.getLong(entry) ^ data) == key) {
+                replace = entry;
+                // keep the old best move when the new result has none, e.g. after a fail low
+                if (move == CompactMove.NULL_MOVE && data != MISS) {
+                    writeEntry(entry, key, encode(getMove(data), score, depth, bound, currentAge));
+                    return;
+                }
+                break;
+            }
+            // prefer to replace entries from older searches, then the shallowest
+            final int worth = data == MISS ? Integer.MIN_VALUE
+                    : getDepth(data) - AGE_WEIGHT * ((currentAge - getAge(data)) & AGE_MASK);
+            if (worth < replaceWorth) {
+                replaceWorth = worth;
+                replace = entry;
+            }
+        }
+        writeEntry(replace, key, encode(move, score, depth, bound, currentAge));
+    }
+
+    public void newSearch() {
+        this.age = (this.age + 1) & AGE_MASK;
+    }
+
+    public void clear() {
+        for (int offset = 0; offset < this.table.capacity(); offset += Long.BYTES) {
+            this.table.putLong(offset, 0L);
+        }
+        this.age = 0;
+    }
+
+    // permille of sampled entries written during the current search
+    public int hashFull() {
+        final int sampledEntries = (int) Math.min(1000, (this.bucketMask + 1) * ENTRIES_PER_BUCKET);
+        final int currentAge = this.age;
+        int used = 0;
+        for (int i = 0; i < sampledEntries; i++) {
+            final long data = this.table.getLong(i * BYTES_PER_ENTRY + Long.BYTES);
+            if (data != MISS && getAge(data) == currentAge) {
+                used++;
+            }
+        }
+        return used * 1000 / sampledEntries;
+    }
+
+    public long getSizeInBytes() {
+        return this.table.capacity();
+    }
+
+    public static int getMove(final long data) {
+        return (int) (data & MOVE_MASK);
+    }
+
+    public static int getScore(final long data) {
+        return (short) (data >>> SCORE_SHIFT);
+    }
+
+    public static int getDepth(final long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & DEPTH_MASK);
+    }
+
+    public static int getBound(final long data) {
+        return (int) ((data >>> BOUND_SHIFT) & BOUND_MASK);
+    }
+
+    private static int getAge(final long data) {
+        return (int) (data >>> AGE_SHIFT) & AGE_MASK;
+    }
+
+    private static long encode(final int move, final int score, final int depth, final int bound, final int age) {
+        return (move & MOVE_MASK)
+                | (score & SCORE_MASK) << SCORE_SHIFT
+                | (Math.max(0, depth) & DEPTH_MASK) << DEPTH_SHIFT
+                | (long) bound << BOUND_SHIFT
+                | (long) age << AGE_SHIFT;
+    }
+
+    private void writeEntry(final int entry, final long key, final long data) {
+        this.table.putLong(entry, key ^ data);
+        this.table.putLong(entry + Long.BYTES, data);
+    }
+
+    private int bucketOffset(final long key) {
+        return (int) (key & this.bucketMask) * BYTES_PER_BUCKET;
+    }
+}